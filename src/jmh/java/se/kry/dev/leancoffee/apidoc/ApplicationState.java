@@ -0,0 +1,35 @@
+package se.kry.dev.leancoffee.apidoc;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+  private ConfigurableApplicationContext context;
+
+  @Setup
+  public void start() {
+    context = SpringApplication.run(Application.class,
+        "--server.port=0",
+        "--spring.main.banner-mode=off",
+        "--logging.level.root=warn");
+  }
+
+  @TearDown
+  public void stop() {
+    context.close();
+  }
+
+  public ConfigurableApplicationContext getContext() {
+    return context;
+  }
+
+  public <T> T getBean(Class<T> type) {
+    return context.getBean(type);
+  }
+}
@@ -0,0 +1,59 @@
+package se.kry.dev.leancoffee.apidoc.data;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares insert throughput and primary key index size between random and time-ordered ids. The index size is
+ * printed when each trial ends.
+ */
+@State(Scope.Benchmark)
+public class EventIdBenchmark {
+
+  @Param({"random", "timeOrdered"})
+  public String generator;
+
+  private Supplier<UUID> ids;
+
+  private Connection connection;
+
+  private PreparedStatement insert;
+
+  @Setup
+  public void setup() throws SQLException {
+    var timeOrderedUuidGenerator = new TimeOrderedUuidGenerator();
+    ids = "random".equals(generator) ? UUID::randomUUID : timeOrderedUuidGenerator::next;
+    connection = DriverManager.getConnection("jdbc:h2:mem:" + generator);
+    try (var statement = connection.createStatement()) {
+      statement.execute("create table event (id uuid primary key, title varchar(256))");
+    }
+    insert = connection.prepareStatement("insert into event (id, title) values (?, 'Some event')");
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    try (var statement = connection.createStatement();
+         var rows = statement.executeQuery("select count(*), disk_space_used('EVENT') from event")) {
+      rows.next();
+      System.out.printf("%n%s: %d rows, %d bytes%n", generator, rows.getLong(1), rows.getLong(2));
+    }
+    insert.close();
+    connection.close();
+  }
+
+  @Benchmark
+  public int insert() throws SQLException {
+    insert.setObject(1, ids.get());
+    return insert.executeUpdate();
+  }
+}
@@ -0,0 +1,39 @@
+package se.kry.dev.leancoffee.apidoc.data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.Optional;
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import se.kry.dev.leancoffee.apidoc.ApplicationState;
+
+@State(Scope.Benchmark)
+public class EventRepositoryBenchmark {
+
+  private static final LocalDateTime START = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+  private EventRepository repository;
+
+  private UUID id;
+
+  @Setup
+  public void setup(ApplicationState application) {
+    repository = application.getBean(EventRepository.class);
+    id = repository.save(new Event().setTitle("Some event").setStart(START).setEnd(START.plusHours(12))).getId();
+  }
+
+  @Benchmark
+  public Event save() {
+    return repository.save(new Event().setTitle("Some event").setStart(START).setEnd(START.plusHours(12)));
+  }
+
+  @Benchmark
+  public Optional<Event> findById() {
+    return repository.findById(id);
+  }
+}
@@ -0,0 +1,81 @@
+package se.kry.dev.leancoffee.apidoc.domain;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.Optional;
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// Counterpart of EventJsonBenchmark, run both with -PjmhIncludes='Event(Json|Cbor)Benchmark' to compare
+@State(Scope.Benchmark)
+public class EventCborBenchmark {
+
+  private ObjectWriter responseWriter;
+
+  private ObjectReader creationRequestReader;
+
+  private ObjectReader updateRequestReader;
+
+  private EventResponse response;
+
+  private byte[] creationRequest;
+
+  private byte[] updateRequest;
+
+  @Setup
+  public void setup() throws IOException {
+    // Same setup as the CBOR ObjectMapper in InfraWebHateoasConfiguration, minus the HAL module
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.cbor()
+        .modulesToInstall(new ParameterNamesModule(JsonCreator.Mode.DEFAULT))
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json()
+        .modulesToInstall(new ParameterNamesModule(JsonCreator.Mode.DEFAULT))
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    responseWriter = objectMapper.writerFor(EventResponse.class);
+    creationRequestReader = objectMapper.readerFor(EventCreationRequest.class);
+    updateRequestReader = objectMapper.readerFor(EventUpdateRequest.class);
+
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    response = new EventResponse(UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df"), "Some event", start,
+        start.plusHours(12), 0);
+    var creation = new EventCreationRequest("Some event", start, start.plusHours(12));
+    var update = new EventUpdateRequest(Optional.of("Some other event"), Optional.empty(),
+        Optional.of(start.plusHours(18)));
+    creationRequest = objectMapper.writeValueAsBytes(creation);
+    updateRequest = objectMapper.writeValueAsBytes(update);
+
+    System.out.printf("Payload sizes (CBOR/JSON): response %d/%d, creation %d/%d, update %d/%d bytes%n",
+        objectMapper.writeValueAsBytes(response).length, jsonMapper.writeValueAsBytes(response).length,
+        creationRequest.length, jsonMapper.writeValueAsBytes(creation).length,
+        updateRequest.length, jsonMapper.writeValueAsBytes(update).length);
+  }
+
+  @Benchmark
+  public byte[] serializeEventResponse() throws IOException {
+    return responseWriter.writeValueAsBytes(response);
+  }
+
+  @Benchmark
+  public EventCreationRequest deserializeEventCreationRequest() throws IOException {
+    return creationRequestReader.readValue(creationRequest);
+  }
+
+  @Benchmark
+  public EventUpdateRequest deserializeEventUpdateRequest() throws IOException {
+    return updateRequestReader.readValue(updateRequest);
+  }
+}
@@ -0,0 +1,69 @@
+package se.kry.dev.leancoffee.apidoc.domain;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+public class EventJsonBenchmark {
+
+  private ObjectWriter responseWriter;
+
+  private ObjectReader creationRequestReader;
+
+  private ObjectReader updateRequestReader;
+
+  private EventResponse response;
+
+  private byte[] creationRequest;
+
+  private byte[] updateRequest;
+
+  @Setup
+  public void setup() throws IOException {
+    // Same setup as the ObjectMapper auto-configured by Spring Boot
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+        .modulesToInstall(new ParameterNamesModule(JsonCreator.Mode.DEFAULT))
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    responseWriter = objectMapper.writerFor(EventResponse.class);
+    creationRequestReader = objectMapper.readerFor(EventCreationRequest.class);
+    updateRequestReader = objectMapper.readerFor(EventUpdateRequest.class);
+
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    response = new EventResponse(UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df"), "Some event", start,
+        start.plusHours(12), 0);
+    creationRequest = objectMapper.writeValueAsBytes(
+        new EventCreationRequest("Some event", start, start.plusHours(12)));
+    updateRequest = """
+        {"title":"Some other event","end":"2001-01-01T18:00:00"}""".getBytes();
+  }
+
+  @Benchmark
+  public byte[] serializeEventResponse() throws IOException {
+    return responseWriter.writeValueAsBytes(response);
+  }
+
+  @Benchmark
+  public EventCreationRequest deserializeEventCreationRequest() throws IOException {
+    return creationRequestReader.readValue(creationRequest);
+  }
+
+  @Benchmark
+  public EventUpdateRequest deserializeEventUpdateRequest() throws IOException {
+    return updateRequestReader.readValue(updateRequest);
+  }
+}
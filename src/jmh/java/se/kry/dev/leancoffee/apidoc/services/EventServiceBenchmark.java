@@ -0,0 +1,34 @@
+package se.kry.dev.leancoffee.apidoc.services;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import se.kry.dev.leancoffee.apidoc.ApplicationState;
+import se.kry.dev.leancoffee.apidoc.data.Event;
+import se.kry.dev.leancoffee.apidoc.data.EventRepository;
+import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
+
+@State(Scope.Benchmark)
+public class EventServiceBenchmark {
+
+  private EventService service;
+
+  private Event event;
+
+  @Setup
+  public void setup(ApplicationState application) {
+    service = application.getBean(EventService.class);
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    event = application.getBean(EventRepository.class)
+        .save(new Event().setTitle("Some event").setStart(start).setEnd(start.plusHours(12)));
+  }
+
+  @Benchmark
+  public EventResponse responseFromEvent() {
+    return service.responseFromEvent(event);
+  }
+}
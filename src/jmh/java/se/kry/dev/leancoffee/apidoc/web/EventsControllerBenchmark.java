@@ -0,0 +1,76 @@
+package se.kry.dev.leancoffee.apidoc.web;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.afford;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.Optional;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import se.kry.dev.leancoffee.apidoc.ApplicationState;
+import se.kry.dev.leancoffee.apidoc.domain.EventCreationRequest;
+import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
+import se.kry.dev.leancoffee.apidoc.services.EventService;
+
+@State(Scope.Benchmark)
+public class EventsControllerBenchmark {
+
+  private MockMvc mockMvc;
+
+  private EventLinks links;
+
+  private EventResponse event;
+
+  @Setup
+  public void setup(ApplicationState application) {
+    // No security filter chain: only the MVC part of the request path is measured
+    mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) application.getContext()).build();
+    links = application.getBean(EventLinks.class);
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    event = application.getBean(EventService.class)
+        .createEvent(new EventCreationRequest("Some event", start, start.plusHours(12)));
+  }
+
+  @Benchmark
+  public EntityModel<EventResponse> assembleEventModel() {
+    var id = event.id();
+    return EntityModel.of(event).add(linkTo(methodOn(EventsController.class)
+            .readEvent(id, Optional.empty(), true, null)).withSelfRel()
+        .andAffordance(afford(methodOn(EventsController.class).updateEvent(id, null, false, null)))
+        .andAffordance(afford(methodOn(EventsController.class).deleteEvent(id, null))));
+  }
+
+  @Benchmark
+  public EntityModel<EventResponse> assembleEventModelWithEventLinks() {
+    return EntityModel.of(event).add(links.eventLinkWithAffordances(event.id()));
+  }
+
+  @Benchmark
+  public String readEvent() throws Exception {
+    return mockMvc.perform(get("/events/{id}", event.id()).accept(MediaTypes.HAL_FORMS_JSON))
+        .andReturn().getResponse().getContentAsString();
+  }
+
+  @Benchmark
+  public String readEvents() throws Exception {
+    return mockMvc.perform(get("/events").accept(MediaTypes.HAL_FORMS_JSON))
+        .andReturn().getResponse().getContentAsString();
+  }
+
+  @Benchmark
+  public String readEventsSparse() throws Exception {
+    return mockMvc.perform(get("/events?fields=id,start&hypermedia=false").accept(MediaTypes.HAL_FORMS_JSON))
+        .andReturn().getResponse().getContentAsString();
+  }
+}
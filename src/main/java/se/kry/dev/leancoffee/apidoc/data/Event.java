@@ -4,20 +4,39 @@ import static se.kry.dev.leancoffee.apidoc.domain.EventConstants.SIZE_TITLE;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
-import org.springframework.data.jpa.domain.AbstractPersistable;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.util.ProxyUtils;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_event_start_id", columnList = "start, id"),
+    @Index(name = "idx_event_start_end", columnList = "start, end"),
+    @Index(name = "idx_event_recurrence_start", columnList = "recurrence_frequency, start"),
+    @Index(name = "idx_event_recurrence_ends", columnList = "recurrence_frequency, recurrence_ends")
+})
 @Accessors(chain = true)
 @Getter
 @Setter
-public class Event extends AbstractPersistable<UUID> {
+public class Event implements Persistable<UUID> {
+
+  @Id
+  @TimeOrderedUuid
+  @Setter(AccessLevel.NONE)
+  private UUID id;
 
   @NotBlank
   @Size(max = SIZE_TITLE)
@@ -28,4 +47,34 @@ public class Event extends AbstractPersistable<UUID> {
 
   @NotNull
   private LocalDateTime end;
+
+  // Null for single events, start and end are then those of the first occurrence
+  @Embedded
+  private Recurrence recurrence;
+
+  @Version
+  @Setter(AccessLevel.NONE)
+  private long version;
+
+  @Override
+  @Transient
+  public boolean isNew() {
+    return id == null;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || !ProxyUtils.getUserClass(this).equals(ProxyUtils.getUserClass(obj))) {
+      return false;
+    }
+    return id != null && id.equals(((Event) obj).getId());
+  }
+
+  @Override
+  public int hashCode() {
+    return ProxyUtils.getUserClass(this).hashCode();
+  }
 }
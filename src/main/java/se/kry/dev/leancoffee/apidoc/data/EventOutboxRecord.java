@@ -0,0 +1,81 @@
+package se.kry.dev.leancoffee.apidoc.data;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.springframework.data.util.ProxyUtils;
+import se.kry.dev.leancoffee.apidoc.domain.EventChange;
+import se.kry.dev.leancoffee.apidoc.domain.EventRecurrence;
+
+// Event fields are empty for changes that do not know the event, such as batch deletions
+@Entity
+@Table(name = "event_outbox")
+@Accessors(chain = true)
+@Getter
+@Setter
+public class EventOutboxRecord {
+
+  // A pooled sequence keeps inserts batched, unlike identity columns
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_outbox_seq")
+  @SequenceGenerator(name = "event_outbox_seq", allocationSize = 50)
+  @Setter(AccessLevel.NONE)
+  private Long id;
+
+  @NotNull
+  private Instant createdAt;
+
+  @NotNull
+  @Enumerated(EnumType.STRING)
+  private EventChange.Type type;
+
+  @NotNull
+  private UUID eventId;
+
+  private String title;
+
+  private LocalDateTime start;
+
+  private LocalDateTime end;
+
+  private Long version;
+
+  // Empty for single events, a series is relayed with its rule rather than as its first occurrence
+  @Enumerated(EnumType.STRING)
+  private EventRecurrence.Frequency recurrenceFrequency;
+
+  private Integer recurrenceInterval;
+
+  private LocalDateTime recurrenceUntil;
+
+  private Integer recurrenceCount;
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || !ProxyUtils.getUserClass(this).equals(ProxyUtils.getUserClass(obj))) {
+      return false;
+    }
+    return id != null && id.equals(((EventOutboxRecord) obj).getId());
+  }
+
+  @Override
+  public int hashCode() {
+    return ProxyUtils.getUserClass(this).hashCode();
+  }
+}
@@ -0,0 +1,10 @@
+package se.kry.dev.leancoffee.apidoc.data;
+
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface EventOutboxRepository extends JpaRepository<EventOutboxRecord, Long> {
+
+  List<EventOutboxRecord> findByOrderByIdAsc(Pageable pageable);
+}
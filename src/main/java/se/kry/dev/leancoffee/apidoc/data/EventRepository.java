@@ -1,7 +1,129 @@
 package se.kry.dev.leancoffee.apidoc.data;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
 
 public interface EventRepository extends JpaRepository<Event, UUID> {
+
+  // List reads construct responses directly, no managed entities nor dirty-checking snapshots are involved. Responses
+  // carry the recurrence columns, whose null frequency tells single events apart from series.
+  @Query(value = """
+      select new se.kry.dev.leancoffee.apidoc.domain.EventResponse(e.id, e.title, e.start, e.end, e.version,
+        e.recurrence.frequency, e.recurrence.interval, e.recurrence.until, e.recurrence.count)
+      from Event e""", countQuery = "select count(e) from Event e")
+  Page<EventResponse> findResponsePageBy(Pageable pageable);
+
+  // Fetches one extra row to tell whether there is a next slice, without a count query
+  @Query("""
+      select new se.kry.dev.leancoffee.apidoc.domain.EventResponse(e.id, e.title, e.start, e.end, e.version,
+        e.recurrence.frequency, e.recurrence.interval, e.recurrence.until, e.recurrence.count)
+      from Event e""")
+  Slice<EventResponse> findResponseSliceBy(Pageable pageable);
+
+  @Query("""
+      select new se.kry.dev.leancoffee.apidoc.domain.EventResponse(e.id, e.title, e.start, e.end, e.version,
+        e.recurrence.frequency, e.recurrence.interval, e.recurrence.until, e.recurrence.count)
+      from Event e
+      order by e.start asc, e.id asc""")
+  List<EventResponse> findFromStart(Pageable pageable);
+
+  @Query("""
+      select new se.kry.dev.leancoffee.apidoc.domain.EventResponse(e.id, e.title, e.start, e.end, e.version,
+        e.recurrence.frequency, e.recurrence.interval, e.recurrence.until, e.recurrence.count)
+      from Event e
+      where e.start > :start or (e.start = :start and e.id > :id)
+      order by e.start asc, e.id asc""")
+  List<EventResponse> findAfter(@Param("start") LocalDateTime start, @Param("id") UUID id, Pageable pageable);
+
+  @Query("""
+      select new se.kry.dev.leancoffee.apidoc.domain.EventResponse(e.id, e.title, e.start, e.end, e.version,
+        e.recurrence.frequency, e.recurrence.interval, e.recurrence.until, e.recurrence.count)
+      from Event e
+      where e.start < :start or (e.start = :start and e.id < :id)
+      order by e.start desc, e.id desc""")
+  List<EventResponse> findBefore(@Param("start") LocalDateTime start, @Param("id") UUID id, Pageable pageable);
+
+  @Query("""
+      select new se.kry.dev.leancoffee.apidoc.domain.EventResponse(e.id, e.title, e.start, e.end, e.version) from Event e
+      where e.start < :to and e.end > :from and e.recurrence.frequency is null
+      order by e.start asc, e.id asc""")
+  List<EventResponse> findBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to, Pageable pageable);
+
+  @Query("""
+      select new se.kry.dev.leancoffee.apidoc.domain.EventResponse(e.id, e.title, e.start, e.end, e.version) from Event e
+      where e.start < :to and e.end > :from and e.recurrence.frequency is null
+        and (e.start > :start or (e.start = :start and e.id > :id))
+      order by e.start asc, e.id asc""")
+  List<EventResponse> findBetweenAfter(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                               @Param("start") LocalDateTime start, @Param("id") UUID id, Pageable pageable);
+
+  // Series are expanded in memory, the rows of single events are read by findBetween. Series that ended before the
+  // window are left out, so that the cost follows the series still running rather than all of those ever created.
+  @Query("""
+      select e from Event e
+      where e.recurrence.frequency is not null and e.start < :to
+        and (e.recurrence.ends is null or e.recurrence.ends > :from)""")
+  List<Event> findSeriesBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+  // Follows start and end changes made by updatePartially, without a new version
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("update Event e set e.recurrence.ends = :ends where e.id = :id")
+  int updateSeriesEnds(@Param("id") UUID id, @Param("ends") LocalDateTime ends);
+
+  // Absent values keep the current column, the caller re-reads the row if it needs the result
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("""
+      update Event e
+      set e.title = coalesce(:title, e.title), e.start = coalesce(:start, e.start), e.end = coalesce(:end, e.end),
+        e.version = e.version + 1
+      where e.id = :id""")
+  int updatePartially(@Param("id") UUID id, @Param("title") String title,
+                      @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("""
+      update Event e
+      set e.title = coalesce(:title, e.title), e.start = coalesce(:start, e.start), e.end = coalesce(:end, e.end),
+        e.version = e.version + 1
+      where e.id = :id and e.version = :version""")
+  int updatePartially(@Param("id") UUID id, @Param("version") long version, @Param("title") String title,
+                      @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+  @Query("""
+      select new se.kry.dev.leancoffee.apidoc.domain.EventResponse(e.id, e.title, e.start, e.end, e.version,
+        e.recurrence.frequency, e.recurrence.interval, e.recurrence.until, e.recurrence.count)
+      from Event e
+      where e.id in :ids""")
+  List<EventResponse> findResponsesByIdIn(@Param("ids") Collection<UUID> ids);
+
+  @Query("select e.id from Event e where e.id in :ids")
+  List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+  @Query("select e from Event e order by e.start asc, e.id asc")
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<Event> streamAllBy();
+
+  @Query("""
+      select new se.kry.dev.leancoffee.apidoc.domain.EventResponse(e.id, e.title, e.start, e.end, e.version,
+        e.recurrence.frequency, e.recurrence.interval, e.recurrence.until, e.recurrence.count)
+      from Event e""")
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  Stream<EventResponse> streamResponsesBy();
 }
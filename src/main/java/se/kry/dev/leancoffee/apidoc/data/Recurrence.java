@@ -0,0 +1,36 @@
+package se.kry.dev.leancoffee.apidoc.data;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import se.kry.dev.leancoffee.apidoc.domain.EventRecurrence;
+
+// Only the rule is stored, occurrences are expanded when read and never become rows
+@Embeddable
+@Accessors(chain = true)
+@Getter
+@Setter
+public class Recurrence {
+
+  @Column(name = "recurrence_frequency")
+  @Enumerated(EnumType.STRING)
+  private EventRecurrence.Frequency frequency;
+
+  @Column(name = "recurrence_interval")
+  private Integer interval;
+
+  @Column(name = "recurrence_until")
+  private LocalDateTime until;
+
+  @Column(name = "recurrence_count")
+  private Integer count;
+
+  // End of the last occurrence, null when the series never ends: range reads skip the series that ended before
+  @Column(name = "recurrence_ends")
+  private LocalDateTime ends;
+}
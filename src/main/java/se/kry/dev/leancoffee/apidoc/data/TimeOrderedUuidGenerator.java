@@ -0,0 +1,48 @@
+package se.kry.dev.leancoffee.apidoc.data;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+public class TimeOrderedUuidGenerator implements IdentifierGenerator {
+
+  private static final int COUNTER_BITS = 12;
+
+  private static final long VERSION_7 = 0x7000L;
+
+  private static final long VARIANT_RFC_4122 = 0x8000_0000_0000_0000L;
+
+  private static final long MASK_62 = 0x3FFF_FFFF_FFFF_FFFFL;
+
+  private final LongSupplier clock;
+
+  // Milliseconds since epoch shifted left by COUNTER_BITS, plus a counter for ids within the same millisecond
+  private final AtomicLong last = new AtomicLong();
+
+  public TimeOrderedUuidGenerator() {
+    this(System::currentTimeMillis);
+  }
+
+  TimeOrderedUuidGenerator(LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  public Object generate(SharedSessionContractImplementor session, Object object) {
+    return next();
+  }
+
+  public UUID next() {
+    var now = clock.getAsLong() << COUNTER_BITS;
+    // Never goes backwards, even if the clock does or the counter overflows into the next millisecond
+    var timestamp = last.updateAndGet(previous -> Math.max(previous + 1, now));
+    var mostSignificantBits = (timestamp >>> COUNTER_BITS) << 16
+        | VERSION_7
+        | timestamp & ((1L << COUNTER_BITS) - 1);
+    var leastSignificantBits = VARIANT_RFC_4122 | ThreadLocalRandom.current().nextLong() & MASK_62;
+    return new UUID(mostSignificantBits, leastSignificantBits);
+  }
+}
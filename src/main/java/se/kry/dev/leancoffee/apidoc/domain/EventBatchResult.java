@@ -0,0 +1,28 @@
+package se.kry.dev.leancoffee.apidoc.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import jakarta.validation.constraints.NotNull;
+
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record EventBatchResult(int index,
+                               @NotNull Status status,
+                               EventResponse event,
+                               List<String> errors) {
+
+  public enum Status {
+    CREATED, UPDATED, DELETED, NOT_FOUND, CONFLICT, INVALID
+  }
+
+  public static EventBatchResult of(int index, @NotNull Status status, EventResponse event) {
+    return new EventBatchResult(index, status, event, List.of());
+  }
+
+  public static EventBatchResult invalid(int index, @NotNull List<String> errors) {
+    return new EventBatchResult(index, Status.INVALID, null, errors);
+  }
+
+  public EventBatchResult withIndex(int index) {
+    return new EventBatchResult(index, status, event, errors);
+  }
+}
@@ -0,0 +1,12 @@
+package se.kry.dev.leancoffee.apidoc.domain;
+
+import java.util.Optional;
+import java.util.UUID;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+public record EventBatchUpdate(@NotNull UUID id,
+                               @NotNull Optional<Long> expectedVersion,
+                               @NotNull @Valid EventUpdateRequest eventUpdateRequest) {
+}
@@ -0,0 +1,52 @@
+package se.kry.dev.leancoffee.apidoc.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import jakarta.validation.constraints.NotNull;
+
+// Published by the event service, listeners only see it once the change is committed
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EventChange(@NotNull Type type, @NotNull UUID id, EventResponse event) {
+
+  public enum Type {
+    CREATED, UPDATED, DELETED
+  }
+
+  public static EventChange created(@NotNull EventResponse event) {
+    return new EventChange(Type.CREATED, event.id(), event);
+  }
+
+  public static EventChange updated(@NotNull EventResponse event) {
+    return new EventChange(Type.UPDATED, event.id(), event);
+  }
+
+  public static EventChange deleted(@NotNull EventResponse event) {
+    return new EventChange(Type.DELETED, event.id(), event);
+  }
+
+  // Batch deletions do not load the events they remove
+  public static EventChange deleted(@NotNull UUID id) {
+    return new EventChange(Type.DELETED, id, null);
+  }
+
+  // Changes without a known event cannot be placed in time, so they are always part of the window. A series is part of
+  // it when any of its occurrences is, not only the first one.
+  public boolean overlaps(LocalDateTime from, LocalDateTime to) {
+    if (event == null) {
+      return true;
+    }
+    if (event.recurrence() == null) {
+      return (from == null || event.end().isAfter(from)) && (to == null || event.start().isBefore(to));
+    }
+    var duration = Duration.between(event.start(), event.end());
+    if (to == null) {
+      return from == null
+          || event.recurrence().lastStart(event.start()).map(last -> last.plus(duration).isAfter(from)).orElse(true);
+    }
+    // Occurrences ending after from start after from minus their duration
+    var after = from == null ? event.start().minusNanos(1) : from.minus(duration);
+    return !event.recurrence().startsBetween(event.start(), after, to, 1).isEmpty();
+  }
+}
@@ -0,0 +1,8 @@
+package se.kry.dev.leancoffee.apidoc.domain;
+
+import java.time.Instant;
+import jakarta.validation.constraints.NotNull;
+
+// Sequences increase with every recorded change, sinks may see one again after a failed relay
+public record EventChangeMessage(long sequence, @NotNull Instant createdAt, @NotNull EventChange change) {
+}
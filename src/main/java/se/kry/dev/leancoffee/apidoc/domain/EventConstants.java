@@ -2,4 +2,8 @@ package se.kry.dev.leancoffee.apidoc.domain;
 
 public interface EventConstants {
   int SIZE_TITLE = 256;
+  int SIZE_PAGE_MAX = 2000;
+  int SIZE_BATCH_MAX = 10000;
+  int SIZE_IMPORT_CHUNK = 500;
+  int SIZE_IMPORT_ERRORS_MAX = 1000;
 }
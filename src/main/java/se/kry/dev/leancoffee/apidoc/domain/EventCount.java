@@ -0,0 +1,8 @@
+package se.kry.dev.leancoffee.apidoc.domain;
+
+// How the total of a page of events is computed, exact counts scan the whole table on every request
+public enum EventCount {
+  EXACT,
+  ESTIMATED,
+  NONE
+}
@@ -2,7 +2,9 @@ package se.kry.dev.leancoffee.apidoc.domain;
 
 import static se.kry.dev.leancoffee.apidoc.domain.EventConstants.SIZE_TITLE;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.LocalDateTime;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -28,4 +30,9 @@ public class EventCreationRequest {
   @NotNull
   @InputType(HtmlInputType.DATETIME_LOCAL_VALUE)
   private LocalDateTime end;
+
+  // Makes the event the first occurrence of a series
+  @Valid
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private EventRecurrence recurrence;
 }
@@ -0,0 +1,35 @@
+package se.kry.dev.leancoffee.apidoc.domain;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+import jakarta.validation.constraints.NotNull;
+
+public record EventCursor(@NotNull LocalDateTime start, @NotNull UUID id) {
+
+  private static final char SEPARATOR = '|';
+
+  public static EventCursor of(@NotNull EventResponse event) {
+    return new EventCursor(event.start(), event.id());
+  }
+
+  // Used by Spring conversion to bind request parameters
+  public static EventCursor valueOf(@NotNull String token) {
+    var decoded = new String(Base64.getUrlDecoder().decode(token), UTF_8);
+    var separator = decoded.lastIndexOf(SEPARATOR);
+    if (separator < 0) {
+      throw new IllegalArgumentException("Invalid event cursor: " + token);
+    }
+    return new EventCursor(
+        LocalDateTime.parse(decoded.substring(0, separator)),
+        UUID.fromString(decoded.substring(separator + 1)));
+  }
+
+  // Opaque URL-safe token, also used when rendering links
+  @Override
+  public String toString() {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString((start.toString() + SEPARATOR + id).getBytes(UTF_8));
+  }
+}
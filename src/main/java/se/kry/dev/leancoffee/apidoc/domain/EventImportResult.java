@@ -0,0 +1,9 @@
+package se.kry.dev.leancoffee.apidoc.domain;
+
+import java.util.List;
+import jakarta.validation.constraints.NotNull;
+
+public record EventImportResult(long created,
+                                long rejected,
+                                @NotNull List<EventBatchResult> errors) {
+}
@@ -0,0 +1,90 @@
+package se.kry.dev.leancoffee.apidoc.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+// Occurrences repeat every interval units from the first one, until a given start and/or a given count
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EventRecurrence(@NotNull Frequency frequency,
+                              @Positive Integer interval,
+                              LocalDateTime until,
+                              @Positive Integer count) {
+
+  public enum Frequency {
+    DAILY(ChronoUnit.DAYS), WEEKLY(ChronoUnit.WEEKS), MONTHLY(ChronoUnit.MONTHS), YEARLY(ChronoUnit.YEARS);
+
+    private final ChronoUnit unit;
+
+    Frequency(ChronoUnit unit) {
+      this.unit = unit;
+    }
+  }
+
+  public EventRecurrence {
+    if (interval == null) {
+      interval = 1;
+    }
+  }
+
+  // Starts strictly between after and before, in order, of a series whose first occurrence starts at first
+  public List<LocalDateTime> startsBetween(@NotNull LocalDateTime first, @NotNull LocalDateTime after,
+                                           @NotNull LocalDateTime before, int limit) {
+    var starts = new ArrayList<LocalDateTime>();
+    var n = indexBefore(first, after);
+    for (; (count == null || n < count) && starts.size() < limit; n++) {
+      // Always derived from the first occurrence, so a 31st does not drift to the 28th after February
+      var start = first.plus(n * interval, frequency.unit);
+      if (!start.isBefore(before) || until != null && start.isAfter(until)) {
+        break;
+      }
+      if (start.isAfter(after)) {
+        starts.add(start);
+      }
+    }
+    return starts;
+  }
+
+  // Starts of the occurrences numbered index to index + size - 1, fewer when the series ends before
+  public List<LocalDateTime> startsFrom(@NotNull LocalDateTime first, long index, int size) {
+    var starts = new ArrayList<LocalDateTime>();
+    for (var n = index; n < index + size && (count == null || n < count); n++) {
+      var start = first.plus(n * interval, frequency.unit);
+      if (until != null && start.isAfter(until)) {
+        break;
+      }
+      starts.add(start);
+    }
+    return starts;
+  }
+
+  // Number of an occurrence starting at or before instant, close to it rather than walking from the first occurrence,
+  // one step back as months vary in length
+  public long indexBefore(@NotNull LocalDateTime first, @NotNull LocalDateTime instant) {
+    return instant.isAfter(first) ? Math.max(0, frequency.unit.between(first, instant) / interval - 1) : 0;
+  }
+
+  // Start of the last occurrence of a series whose first occurrence starts at first, empty when it never ends
+  public Optional<LocalDateTime> lastStart(@NotNull LocalDateTime first) {
+    var last = Optional.<LocalDateTime>empty();
+    if (count != null) {
+      last = Optional.of(first.plus((long) (count - 1) * interval, frequency.unit));
+    }
+    if (until != null) {
+      var n = until.isAfter(first) ? frequency.unit.between(first, until) / interval : 0;
+      var start = first.plus(n * interval, frequency.unit);
+      // Months vary in length, the computed step may land just after until
+      while (n > 0 && start.isAfter(until)) {
+        start = first.plus(--n * interval, frequency.unit);
+      }
+      var untilStart = start;
+      last = Optional.of(last.filter(untilStart::isAfter).orElse(untilStart));
+    }
+    return last;
+  }
+}
@@ -2,6 +2,7 @@ package se.kry.dev.leancoffee.apidoc.domain;
 
 import static se.kry.dev.leancoffee.apidoc.domain.EventConstants.SIZE_TITLE;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import jakarta.validation.constraints.NotBlank;
@@ -9,9 +10,24 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import org.springframework.hateoas.server.core.Relation;
 
+// Occurrences of a recurring event share the id of their series, each with its own start and end
 @Relation(collectionRelation = "events", itemRelation = "event")
 public record EventResponse(@NotNull UUID id,
                             @NotBlank @Size(max = SIZE_TITLE) String title,
                             @NotNull LocalDateTime start,
-                            @NotNull LocalDateTime end) {
+                            @NotNull LocalDateTime end,
+                            long version,
+                            @JsonInclude(JsonInclude.Include.NON_NULL) EventRecurrence recurrence) {
+
+  // Used by the constructor expressions of range reads, whose rows are single events
+  public EventResponse(UUID id, String title, LocalDateTime start, LocalDateTime end, long version) {
+    this(id, title, start, end, version, null);
+  }
+
+  // Used by the constructor expressions of list reads, the recurrence is read from its columns
+  public EventResponse(UUID id, String title, LocalDateTime start, LocalDateTime end, long version,
+                       EventRecurrence.Frequency frequency, Integer interval, LocalDateTime until, Integer count) {
+    this(id, title, start, end, version,
+        frequency == null ? null : new EventRecurrence(frequency, interval, until, count));
+  }
 }
@@ -4,6 +4,7 @@ import static se.kry.dev.leancoffee.apidoc.domain.EventConstants.SIZE_TITLE;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -15,7 +16,7 @@ import org.springframework.hateoas.mediatype.html.HtmlInputType;
 @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
 public class EventUpdateRequest {
 
-  private Optional<@Size(max = SIZE_TITLE) String> title;
+  private Optional<@NotBlank @Size(max = SIZE_TITLE) String> title;
 
   @InputType(HtmlInputType.DATETIME_LOCAL_VALUE)
   private Optional<LocalDateTime> start;
@@ -0,0 +1,11 @@
+package se.kry.dev.leancoffee.apidoc.domain;
+
+import java.util.List;
+import java.util.Optional;
+import jakarta.validation.constraints.NotNull;
+
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+public record EventWindow(@NotNull List<EventResponse> content,
+                          @NotNull Optional<EventCursor> previous,
+                          @NotNull Optional<EventCursor> next) {
+}
@@ -0,0 +1,33 @@
+package se.kry.dev.leancoffee.apidoc.infra.cache;
+
+import static se.kry.dev.leancoffee.apidoc.services.EventOccurrences.CACHE_OCCURRENCES;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// Caching advice wraps transactional advice, so puts and evictions only happen once the transaction committed
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class InfraCacheConfiguration {
+
+  // Occurrence entries are lists of starts, bounded by the number of starts they hold rather than by their count
+  @Bean
+  CacheManagerCustomizer<CaffeineCacheManager> occurrencesCacheCustomizer(
+      @Value("${events.occurrences.cache.maximum-weight:200000}") long maximumWeight,
+      @Value("${events.occurrences.cache.expire-after-write:PT10M}") Duration expireAfterWrite) {
+    return cacheManager -> cacheManager.registerCustomCache(CACHE_OCCURRENCES, Caffeine.newBuilder()
+        .maximumWeight(maximumWeight)
+        .<Object, Object>weigher((key, value) -> value instanceof Collection<?> starts ? starts.size() + 1 : 1)
+        .expireAfterWrite(expireAfterWrite)
+        .recordStats()
+        .build());
+  }
+}
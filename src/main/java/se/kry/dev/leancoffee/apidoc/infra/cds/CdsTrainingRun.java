@@ -0,0 +1,59 @@
+package se.kry.dev.leancoffee.apidoc.infra.cds;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.http.HttpHeaders;
+import se.kry.dev.leancoffee.apidoc.Application;
+
+/**
+ * Training run of the class data sharing archive, launched by the {@code cdsArchive} task instead of
+ * {@link Application}: the application starts, serves a few reads, loading the classes that first requests need, and
+ * exits so that the JVM dumps the archive. Not a bean, the application itself never exits on its own.
+ */
+public final class CdsTrainingRun {
+
+  // Reads only, the training run may be pointed at a real database
+  static final List<String> PATHS = List.of(
+      "/actuator/health",
+      "/events",
+      "/events?size=1&fields=id,title&hypermedia=false");
+
+  private CdsTrainingRun() {
+  }
+
+  public static void main(String[] args) throws IOException, InterruptedException {
+    var context = SpringApplication.run(Application.class, args);
+    var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+    var statuses = warmUp(port, context.getBean(SecurityProperties.class).getUser());
+    if (statuses.stream().anyMatch(status -> status >= 300)) {
+      SpringApplication.exit(context);
+      throw new IllegalStateException("Training requests to " + PATHS + " answered " + statuses);
+    }
+    System.exit(SpringApplication.exit(context));
+  }
+
+  static List<Integer> warmUp(int port, SecurityProperties.User user) throws IOException, InterruptedException {
+    var client = HttpClient.newHttpClient();
+    var credentials = Base64.getEncoder()
+        .encodeToString((user.getName() + ':' + user.getPassword()).getBytes(StandardCharsets.UTF_8));
+    var statuses = new ArrayList<Integer>();
+    for (var path : PATHS) {
+      var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+          .header(HttpHeaders.AUTHORIZATION, "Basic " + credentials)
+          .GET()
+          .build();
+      statuses.add(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+    }
+    return statuses;
+  }
+}
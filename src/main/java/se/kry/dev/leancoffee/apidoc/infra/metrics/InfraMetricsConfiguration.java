@@ -0,0 +1,16 @@
+package se.kry.dev.leancoffee.apidoc.infra.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Spring Boot 3.1 does not register the aspect behind @Timed by itself
+@Configuration
+public class InfraMetricsConfiguration {
+
+  @Bean
+  TimedAspect timedAspect(MeterRegistry registry) {
+    return new TimedAspect(registry);
+  }
+}
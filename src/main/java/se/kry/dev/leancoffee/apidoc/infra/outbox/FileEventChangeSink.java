@@ -0,0 +1,40 @@
+package se.kry.dev.leancoffee.apidoc.infra.outbox;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import se.kry.dev.leancoffee.apidoc.domain.EventChangeMessage;
+import se.kry.dev.leancoffee.apidoc.services.EventChangeSink;
+
+// Appends one JSON message per line, a batch is written with a single write call
+public class FileEventChangeSink implements EventChangeSink {
+
+  private final Path path;
+
+  private final ObjectWriter writer;
+
+  public FileEventChangeSink(Path path, ObjectMapper objectMapper) {
+    this.path = path;
+    this.writer = objectMapper.writerFor(EventChangeMessage.class);
+  }
+
+  @Override
+  public synchronized void publish(List<EventChangeMessage> messages) {
+    try {
+      var lines = new StringBuilder();
+      for (var message : messages) {
+        lines.append(writer.writeValueAsString(message)).append('\n');
+      }
+      Files.writeString(path, lines, UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package se.kry.dev.leancoffee.apidoc.infra.outbox;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import se.kry.dev.leancoffee.apidoc.domain.EventChangeMessage;
+import se.kry.dev.leancoffee.apidoc.services.EventChangeSink;
+
+// Keeps the latest messages for local testing, older ones are discarded
+public class InMemoryEventChangeSink implements EventChangeSink {
+
+  private final Deque<EventChangeMessage> messages = new ArrayDeque<>();
+
+  private final int capacity;
+
+  public InMemoryEventChangeSink(int capacity) {
+    this.capacity = capacity;
+  }
+
+  @Override
+  public synchronized void publish(List<EventChangeMessage> messages) {
+    for (var message : messages) {
+      if (this.messages.size() == capacity) {
+        this.messages.removeFirst();
+      }
+      this.messages.addLast(message);
+    }
+  }
+
+  public synchronized List<EventChangeMessage> messages() {
+    return List.copyOf(messages);
+  }
+}
@@ -0,0 +1,26 @@
+package se.kry.dev.leancoffee.apidoc.infra.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Path;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Sinks for local testing, deployments set events.outbox.sink=custom and provide their own EventChangeSink
+@Configuration
+public class InfraOutboxConfiguration {
+
+  @Bean
+  @ConditionalOnProperty(name = "events.outbox.sink", havingValue = "memory", matchIfMissing = true)
+  InMemoryEventChangeSink inMemoryEventChangeSink(@Value("${events.outbox.memory.capacity:10000}") int capacity) {
+    return new InMemoryEventChangeSink(capacity);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "events.outbox.sink", havingValue = "file")
+  FileEventChangeSink fileEventChangeSink(@Value("${events.outbox.file.path:event-changes.ndjson}") Path path,
+                                          ObjectMapper objectMapper) {
+    return new FileEventChangeSink(path, objectMapper);
+  }
+}
@@ -0,0 +1,53 @@
+package se.kry.dev.leancoffee.apidoc.infra.replica;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Stands in for replication when primary and replica are embedded H2 databases: the events of the primary are copied
+// to the replica at an interval, which is then the replication lag
+class H2ReplicaCopy implements SmartInitializingSingleton {
+
+  private static final String TABLE = "\"EVENT\"";
+
+  private final JdbcTemplate primary;
+
+  private final JdbcTemplate replica;
+
+  private final TransactionTemplate replicaTransactionTemplate;
+
+  private boolean created;
+
+  H2ReplicaCopy(DataSource primary, DataSource replica) {
+    this.primary = new JdbcTemplate(primary);
+    this.replica = new JdbcTemplate(replica);
+    this.replicaTransactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(replica));
+  }
+
+  // First copied once the primary schema exists, before scheduled tasks and requests read the replica
+  @Override
+  public void afterSingletonsInstantiated() {
+    copy();
+  }
+
+  @Scheduled(fixedDelayString = "${events.datasource.replica-copy-interval}",
+      initialDelayString = "${events.datasource.replica-copy-interval}")
+  synchronized void copy() {
+    var statements = primary.queryForList("SCRIPT SIMPLE NOSETTINGS TABLE " + TABLE, String.class);
+    if (!created) {
+      statements.stream().filter(statement -> statement.startsWith("CREATE")).forEach(replica::execute);
+      created = true;
+    }
+    // Readers of the replica see the whole copy or none of it
+    replicaTransactionTemplate.executeWithoutResult(status -> {
+      replica.update("DELETE FROM " + TABLE);
+      var inserts = statements.stream().filter(statement -> statement.startsWith("INSERT")).toArray(String[]::new);
+      if (inserts.length > 0) {
+        replica.batchUpdate(inserts);
+      }
+    });
+  }
+}
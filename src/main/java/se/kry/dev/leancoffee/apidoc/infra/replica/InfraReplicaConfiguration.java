@@ -0,0 +1,62 @@
+package se.kry.dev.leancoffee.apidoc.infra.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// The primary is configured by spring.datasource, the replica by events.datasource.replica with Hikari property names
+@Configuration
+@Profile("replica")
+public class InfraReplicaConfiguration implements WebMvcConfigurer {
+
+  private final ReadYourWrites readYourWrites;
+
+  public InfraReplicaConfiguration(@Value("${events.datasource.read-your-writes-window:PT5S}") Duration window) {
+    this.readYourWrites = new ReadYourWrites(window);
+  }
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    var dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  @Bean
+  @ConfigurationProperties("events.datasource.replica")
+  HikariDataSource replicaDataSource() {
+    var dataSource = new HikariDataSource();
+    dataSource.setPoolName("replica");
+    return dataSource;
+  }
+
+  @Bean
+  @Primary
+  DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource) {
+    return new LazyConnectionDataSourceProxy(
+        new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, readYourWrites));
+  }
+
+  @Bean
+  @ConditionalOnProperty("events.datasource.replica-copy-interval")
+  H2ReplicaCopy h2ReplicaCopy(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource) {
+    return new H2ReplicaCopy(primaryDataSource, replicaDataSource);
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(readYourWrites);
+  }
+}
@@ -0,0 +1,54 @@
+package se.kry.dev.leancoffee.apidoc.infra.replica;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Set;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Clients that made a write request read the primary for a window after it, which should exceed the replication lag.
+ * Clients are told apart by their authenticated name, and remembered by this instance only.
+ */
+class ReadYourWrites implements HandlerInterceptor {
+
+  private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+  private final Cache<String, Boolean> writers;
+
+  ReadYourWrites(Duration window) {
+    this.writers = Caffeine.newBuilder().expireAfterWrite(window).build();
+  }
+
+  boolean primaryRequired() {
+    if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+      var client = attributes.getRequest().getRemoteUser();
+      return client != null && writers.getIfPresent(client) != null;
+    }
+    return false;
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    wrote(request);
+    return true;
+  }
+
+  // Marked again at the end, as the window should not start before long writes, such as imports, complete
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                              Exception ex) {
+    wrote(request);
+  }
+
+  private void wrote(HttpServletRequest request) {
+    var client = request.getRemoteUser();
+    if (client != null && !SAFE_METHODS.contains(request.getMethod())) {
+      writers.put(client, Boolean.TRUE);
+    }
+  }
+}
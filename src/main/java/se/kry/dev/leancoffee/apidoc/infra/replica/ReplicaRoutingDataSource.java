@@ -0,0 +1,31 @@
+package se.kry.dev.leancoffee.apidoc.infra.replica;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Read-only transactions read the replica, unless the client wrote recently. Behind a LazyConnectionDataSourceProxy,
+// as the transaction only becomes read-only after it has asked for a connection.
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  enum Target {
+    PRIMARY, REPLICA
+  }
+
+  private final ReadYourWrites readYourWrites;
+
+  ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWrites readYourWrites) {
+    this.readYourWrites = readYourWrites;
+    setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Target determineCurrentLookupKey() {
+    return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !readYourWrites.primaryRequired()
+        ? Target.REPLICA
+        : Target.PRIMARY;
+  }
+}
@@ -0,0 +1,9 @@
+package se.kry.dev.leancoffee.apidoc.infra.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class InfraSchedulingConfiguration {
+}
@@ -0,0 +1,46 @@
+package se.kry.dev.leancoffee.apidoc.infra.virtualthreads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+// Requests, and the EventService calls they make, run on virtual threads instead of the Tomcat worker pool.
+// The project still targets Java 17, so the executor is looked up reflectively and needs a Java 21 runtime.
+@Configuration
+@Profile("virtual-threads")
+public class InfraVirtualThreadsConfiguration {
+
+  // Also picked up by Spring MVC for asynchronous requests, such as the NDJSON export
+  @Bean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+  AsyncTaskExecutor applicationTaskExecutor() {
+    return new TaskExecutorAdapter(newVirtualThreadPerTaskExecutor());
+  }
+
+  @Bean
+  TomcatProtocolHandlerCustomizer<?> virtualThreadsProtocolHandlerCustomizer(AsyncTaskExecutor applicationTaskExecutor) {
+    return protocolHandler -> protocolHandler.setExecutor(applicationTaskExecutor);
+  }
+
+  @Bean
+  VirtualThreadPinning virtualThreadPinning(
+      @Value("${events.virtual-threads.pinned-threshold:PT0.02S}") Duration threshold, MeterRegistry registry) {
+    return new VirtualThreadPinning(threshold, registry);
+  }
+
+  private static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("The virtual-threads profile requires a Java 21+ runtime", e);
+    }
+  }
+}
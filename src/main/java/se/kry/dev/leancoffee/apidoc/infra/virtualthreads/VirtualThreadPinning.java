@@ -0,0 +1,65 @@
+package se.kry.dev.leancoffee.apidoc.infra.virtualthreads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+// Virtual threads blocking while pinned to their carrier, in synchronized sections or native frames, hold a platform
+// thread like the worker pool did. The JDK records them as flight recorder events, streamed here into a timer and a
+// warning with the pinned frames, so that pinning shows in production and fails the profile test.
+class VirtualThreadPinning implements DisposableBean {
+
+  static final String METRIC_PINNED = "virtual.threads.pinned";
+
+  private static final String EVENT_PINNED = "jdk.VirtualThreadPinned";
+
+  private static final int SIZE_FRAMES_LOGGED = 8;
+
+  private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinning.class);
+
+  private final Timer pinned;
+
+  private final RecordingStream stream = new RecordingStream();
+
+  VirtualThreadPinning(Duration threshold, MeterRegistry registry) {
+    this.pinned = Timer.builder(METRIC_PINNED)
+        .description("Virtual threads blocked while pinned to their carrier, for longer than the threshold")
+        .register(registry);
+    stream.enable(EVENT_PINNED).withThreshold(threshold).withStackTrace();
+    stream.onEvent(EVENT_PINNED, this::record);
+    stream.startAsync();
+  }
+
+  private void record(RecordedEvent event) {
+    pinned.record(event.getDuration());
+    if (log.isWarnEnabled()) {
+      log.warn("Virtual thread pinned for {} at {}", event.getDuration(), frames(event));
+    }
+  }
+
+  private static String frames(RecordedEvent event) {
+    if (event.getStackTrace() == null) {
+      return "an unknown frame";
+    }
+    return event.getStackTrace().getFrames().stream()
+        .limit(SIZE_FRAMES_LOGGED)
+        .map(VirtualThreadPinning::frame)
+        .collect(Collectors.joining(" < "));
+  }
+
+  private static String frame(RecordedFrame frame) {
+    return frame.getMethod().getType().getName() + '.' + frame.getMethod().getName() + ':' + frame.getLineNumber();
+  }
+
+  @Override
+  public void destroy() {
+    stream.close();
+  }
+}
@@ -1,9 +1,52 @@
 package se.kry.dev.leancoffee.apidoc.infra.web.hateoas;
 
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.config.EnableHypermediaSupport;
+import org.springframework.hateoas.config.HypermediaMappingInformation;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 @EnableHypermediaSupport(type = {EnableHypermediaSupport.HypermediaType.HAL_FORMS})
-public class InfraWebHateoasConfiguration {
+public class InfraWebHateoasConfiguration implements WebMvcConfigurer {
+
+  private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+  private final ObjectProvider<HypermediaMappingInformation> hypermediaMappings;
+
+  public InfraWebHateoasConfiguration(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder,
+      ObjectProvider<HypermediaMappingInformation> hypermediaMappings) {
+    this.objectMapperBuilder = objectMapperBuilder;
+    this.hypermediaMappings = hypermediaMappings;
+  }
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    var converter = cborConverter();
+    // Replaces the default CBOR converter, which neither knows the Boot Jackson settings nor renders HAL
+    for (var iterator = converters.listIterator(); iterator.hasNext(); ) {
+      if (iterator.next() instanceof MappingJackson2CborHttpMessageConverter) {
+        iterator.set(converter);
+        return;
+      }
+    }
+    converters.add(converter);
+  }
+
+  private MappingJackson2CborHttpMessageConverter cborConverter() {
+    var objectMapper = objectMapperBuilder.getIfAvailable(Jackson2ObjectMapperBuilder::json)
+        .factory(new CBORFactory())
+        .build();
+    hypermediaMappings.orderedStream()
+        .filter(mapping -> mapping.getMediaTypes().contains(MediaTypes.HAL_FORMS_JSON))
+        .findFirst()
+        .ifPresent(mapping -> mapping.configureObjectMapper(objectMapper));
+    return new MappingJackson2CborHttpMessageConverter(objectMapper);
+  }
 }
@@ -0,0 +1,31 @@
+package se.kry.dev.leancoffee.apidoc.infra.web.security;
+
+import static org.springframework.security.config.Customizer.withDefaults;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.web.SecurityFilterChain;
+
+@Configuration
+public class InfraWebSecurityConfiguration {
+
+  @Bean
+  SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                          @Value("${security.enable.csrf:true}") boolean csrf) throws Exception {
+    if (!csrf) {
+      http.csrf(AbstractHttpConfigurer::disable);
+    }
+    return http
+        .authorizeHttpRequests(requests -> requests
+            .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+            .anyRequest().authenticated())
+        .formLogin(withDefaults())
+        .httpBasic(withDefaults())
+        .build();
+  }
+}
@@ -0,0 +1,10 @@
+package se.kry.dev.leancoffee.apidoc.services;
+
+import java.util.List;
+import se.kry.dev.leancoffee.apidoc.domain.EventChangeMessage;
+
+public interface EventChangeSink {
+
+  // Called within the relay transaction, throwing keeps the whole batch in the outbox for the next attempt
+  void publish(List<EventChangeMessage> messages);
+}
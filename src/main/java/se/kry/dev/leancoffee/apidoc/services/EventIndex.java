@@ -0,0 +1,100 @@
+package se.kry.dev.leancoffee.apidoc.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.kry.dev.leancoffee.apidoc.data.EventRepository;
+import se.kry.dev.leancoffee.apidoc.domain.EventChange;
+import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
+
+// In-memory index over all events, rebuilt from the repository on startup and kept up to date by committed changes.
+// Subclasses only build, fill and query their index, reads run under the read lock and changes under the write lock.
+abstract class EventIndex<I> {
+
+  private final EventRepository repository;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // Both guarded by lock, pending collects the changes made while a rebuild reads the repository
+  private I index;
+
+  private List<EventChange> pending;
+
+  EventIndex(EventRepository repository, PlatformTransactionManager transactionManager, I empty) {
+    this.repository = repository;
+    // Not read-only, so that the rebuild reads the primary: a lagging replica would miss changes never replayed after
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.index = empty;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    withWriteLock(() -> pending = new ArrayList<>());
+    try {
+      var rebuilt = transactionTemplate.execute(status -> {
+        try (var events = repository.streamResponsesBy()) {
+          return build(events);
+        }
+      });
+      withWriteLock(() -> {
+        pending.forEach(change -> apply(rebuilt, change));
+        index = rebuilt;
+      });
+    } finally {
+      withWriteLock(() -> pending = null);
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  void onChange(EventChange change) {
+    withWriteLock(() -> {
+      if (pending != null) {
+        pending.add(change);
+      }
+      apply(index, change);
+    });
+  }
+
+  <R> R read(Function<I, R> query) {
+    lock.readLock().lock();
+    try {
+      return query.apply(index);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  abstract I build(Stream<EventResponse> events);
+
+  abstract void put(I target, EventResponse event);
+
+  abstract void remove(I target, UUID id);
+
+  private void apply(I target, EventChange change) {
+    if (change.type() == EventChange.Type.DELETED || change.event() == null) {
+      remove(target, change.id());
+    } else {
+      put(target, change.event());
+    }
+  }
+
+  private void withWriteLock(Runnable action) {
+    lock.writeLock().lock();
+    try {
+      action.run();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+}
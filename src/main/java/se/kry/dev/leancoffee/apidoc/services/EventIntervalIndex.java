@@ -0,0 +1,239 @@
+package se.kry.dev.leancoffee.apidoc.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import se.kry.dev.leancoffee.apidoc.data.EventRepository;
+import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
+
+// In-memory interval tree over event times, an AVL tree ordered by start and augmented with the latest end below
+@Service
+public class EventIntervalIndex extends EventIndex<EventIntervalIndex.Tree> {
+
+  public EventIntervalIndex(EventRepository repository, PlatformTransactionManager transactionManager) {
+    super(repository, transactionManager, new Tree());
+  }
+
+  // Events sharing any instant with [start, end), touching ones do not overlap, ordered by start
+  public List<UUID> overlapping(@NotNull LocalDateTime start, @NotNull LocalDateTime end, Optional<UUID> excluded,
+                                int limit) {
+    return read(tree -> {
+      var result = new ArrayList<UUID>(Math.min(limit, 64));
+      tree.overlapping(start, end, excluded.orElse(null), limit, result);
+      return result;
+    });
+  }
+
+  @Override
+  Tree build(Stream<EventResponse> events) {
+    return Tree.of(events.map(EventIntervalIndex::node).toArray(Node[]::new));
+  }
+
+  @Override
+  void put(Tree target, EventResponse event) {
+    target.put(node(event));
+  }
+
+  @Override
+  void remove(Tree target, UUID id) {
+    target.remove(id);
+  }
+
+  private static Node node(EventResponse event) {
+    return new Node(event.id(), event.start(), event.end());
+  }
+
+  static final class Tree {
+
+    private static final Comparator<Node> ORDER = Comparator.<Node, LocalDateTime>comparing(node -> node.start)
+        .thenComparing(node -> node.id);
+
+    private final Map<UUID, Node> nodes = new HashMap<>();
+
+    private Node root;
+
+    // Sorting is the expensive part of a rebuild, a sorted array then gives a balanced tree in linear time
+    static Tree of(Node[] nodes) {
+      Arrays.parallelSort(nodes, ORDER);
+      var tree = new Tree();
+      for (var node : nodes) {
+        tree.nodes.put(node.id, node);
+      }
+      tree.root = build(nodes, 0, nodes.length);
+      return tree;
+    }
+
+    void put(Node node) {
+      remove(node.id);
+      nodes.put(node.id, node);
+      root = insert(root, node);
+    }
+
+    void remove(UUID id) {
+      var node = nodes.remove(id);
+      if (node != null) {
+        root = delete(root, node);
+      }
+    }
+
+    void overlapping(LocalDateTime start, LocalDateTime end, UUID excluded, int limit, List<UUID> result) {
+      collect(root, start, end, excluded, limit, result);
+    }
+
+    // Skips every subtree ending before start, and stops descending right at the first node starting after end
+    private static void collect(Node node, LocalDateTime start, LocalDateTime end, UUID excluded, int limit,
+                                List<UUID> result) {
+      if (node == null || result.size() >= limit || !node.maxEnd.isAfter(start)) {
+        return;
+      }
+      collect(node.left, start, end, excluded, limit, result);
+      if (result.size() < limit && node.start.isBefore(end)) {
+        if (node.end.isAfter(start) && !node.id.equals(excluded)) {
+          result.add(node.id);
+        }
+        collect(node.right, start, end, excluded, limit, result);
+      }
+    }
+
+    private static Node build(Node[] sorted, int from, int to) {
+      if (from >= to) {
+        return null;
+      }
+      var middle = (from + to) >>> 1;
+      var node = sorted[middle];
+      node.left = build(sorted, from, middle);
+      node.right = build(sorted, middle + 1, to);
+      update(node);
+      return node;
+    }
+
+    private static Node insert(Node root, Node node) {
+      if (root == null) {
+        return node;
+      }
+      if (ORDER.compare(node, root) < 0) {
+        root.left = insert(root.left, node);
+      } else {
+        root.right = insert(root.right, node);
+      }
+      return balance(root);
+    }
+
+    private static Node delete(Node root, Node node) {
+      var comparison = ORDER.compare(node, root);
+      if (comparison < 0) {
+        root.left = delete(root.left, node);
+      } else if (comparison > 0) {
+        root.right = delete(root.right, node);
+      } else {
+        if (root.left == null) {
+          return root.right;
+        }
+        if (root.right == null) {
+          return root.left;
+        }
+        var successor = root.right;
+        while (successor.left != null) {
+          successor = successor.left;
+        }
+        successor.right = deleteMin(root.right);
+        successor.left = root.left;
+        return balance(successor);
+      }
+      return balance(root);
+    }
+
+    private static Node deleteMin(Node root) {
+      if (root.left == null) {
+        return root.right;
+      }
+      root.left = deleteMin(root.left);
+      return balance(root);
+    }
+
+    private static Node balance(Node node) {
+      update(node);
+      var factor = height(node.left) - height(node.right);
+      if (factor > 1) {
+        if (height(node.left.left) < height(node.left.right)) {
+          node.left = rotateLeft(node.left);
+        }
+        return rotateRight(node);
+      }
+      if (factor < -1) {
+        if (height(node.right.right) < height(node.right.left)) {
+          node.right = rotateRight(node.right);
+        }
+        return rotateLeft(node);
+      }
+      return node;
+    }
+
+    private static Node rotateLeft(Node node) {
+      var right = node.right;
+      node.right = right.left;
+      right.left = node;
+      update(node);
+      update(right);
+      return right;
+    }
+
+    private static Node rotateRight(Node node) {
+      var left = node.left;
+      node.left = left.right;
+      left.right = node;
+      update(node);
+      update(left);
+      return left;
+    }
+
+    private static void update(Node node) {
+      node.height = 1 + Math.max(height(node.left), height(node.right));
+      node.maxEnd = node.end;
+      if (node.left != null && node.left.maxEnd.isAfter(node.maxEnd)) {
+        node.maxEnd = node.left.maxEnd;
+      }
+      if (node.right != null && node.right.maxEnd.isAfter(node.maxEnd)) {
+        node.maxEnd = node.right.maxEnd;
+      }
+    }
+
+    private static int height(Node node) {
+      return node == null ? 0 : node.height;
+    }
+  }
+
+  private static final class Node {
+
+    private final UUID id;
+
+    private final LocalDateTime start;
+
+    private final LocalDateTime end;
+
+    private LocalDateTime maxEnd;
+
+    private int height = 1;
+
+    private Node left;
+
+    private Node right;
+
+    Node(UUID id, LocalDateTime start, LocalDateTime end) {
+      this.id = id;
+      this.start = start;
+      this.end = end;
+      this.maxEnd = end;
+    }
+  }
+}
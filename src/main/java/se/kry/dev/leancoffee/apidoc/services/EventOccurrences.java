@@ -0,0 +1,99 @@
+package se.kry.dev.leancoffee.apidoc.services;
+
+import static java.util.Objects.requireNonNull;
+import static se.kry.dev.leancoffee.apidoc.domain.EventConstants.SIZE_PAGE_MAX;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import se.kry.dev.leancoffee.apidoc.domain.EventCursor;
+import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
+
+// Expands recurring events into the occurrences of a window. Starts are cached per series in buckets of consecutive
+// occurrences, whatever the windows clients ask for, and windows are sliced out of the buckets they cross.
+@Service
+public class EventOccurrences {
+
+  public static final String CACHE_OCCURRENCES = "event-occurrences";
+
+  // Same order as the keyset reads of single events, databases compare UUIDs as unsigned
+  static final Comparator<EventResponse> ORDER = Comparator.comparing(EventResponse::start)
+      .thenComparing(EventResponse::id, EventOccurrences::compareIds);
+
+  // A full page after the cursor, whatever the number of occurrences in the window
+  static final int SIZE_EXPANSION_MAX = SIZE_PAGE_MAX + 1;
+
+  static final int SIZE_BUCKET = 64;
+
+  private final Cache cache;
+
+  public EventOccurrences(CacheManager cacheManager) {
+    this.cache = requireNonNull(cacheManager.getCache(CACHE_OCCURRENCES));
+  }
+
+  // Occurrences overlapping [from, to) that follow the cursor, at most limit of them
+  public List<EventResponse> between(@NotNull List<EventResponse> series, @NotNull LocalDateTime from,
+                                     @NotNull LocalDateTime to, Optional<EventCursor> cursor, int limit) {
+    return series.stream()
+        .flatMap(event -> occurrences(event, from, to, cursor, Math.min(limit + 1, SIZE_EXPANSION_MAX)).stream()
+            .filter(occurrence -> cursor.map(c -> follows(occurrence, c)).orElse(true))
+            .limit(limit))
+        .sorted(ORDER)
+        .limit(limit)
+        .toList();
+  }
+
+  // One more than the limit, as the cursor filters out at most the occurrence it points at
+  private List<EventResponse> occurrences(EventResponse series, LocalDateTime from, LocalDateTime to,
+                                          Optional<EventCursor> cursor, int limit) {
+    var recurrence = requireNonNull(series.recurrence());
+    var duration = Duration.between(series.start(), series.end());
+    // Occurrences ending after from, and not starting before the cursor
+    var after = cursor.map(c -> c.start().minusNanos(1))
+        .filter(start -> start.isAfter(from.minus(duration)))
+        .orElse(from.minus(duration));
+    var occurrences = new ArrayList<EventResponse>();
+    for (var bucket = recurrence.indexBefore(series.start(), after) / SIZE_BUCKET; ; bucket++) {
+      var starts = bucketStarts(series, bucket);
+      for (var start : starts) {
+        if (!start.isBefore(to) || occurrences.size() == limit) {
+          return occurrences;
+        }
+        if (start.isAfter(after)) {
+          occurrences.add(new EventResponse(series.id(), series.title(), start, start.plus(duration),
+              series.version(), recurrence));
+        }
+      }
+      if (starts.size() < SIZE_BUCKET) {
+        return occurrences;
+      }
+    }
+  }
+
+  // The version is part of the key, buckets of a changed series are never read again and simply expire
+  private List<LocalDateTime> bucketStarts(EventResponse series, long bucket) {
+    return requireNonNull(cache.get(new Bucket(series.id(), series.version(), bucket),
+        () -> requireNonNull(series.recurrence()).startsFrom(series.start(), bucket * SIZE_BUCKET, SIZE_BUCKET)));
+  }
+
+  private static boolean follows(EventResponse occurrence, EventCursor cursor) {
+    return occurrence.start().isAfter(cursor.start())
+        || occurrence.start().isEqual(cursor.start()) && compareIds(occurrence.id(), cursor.id()) > 0;
+  }
+
+  private static int compareIds(UUID id, UUID other) {
+    var high = Long.compareUnsigned(id.getMostSignificantBits(), other.getMostSignificantBits());
+    return high != 0 ? high : Long.compareUnsigned(id.getLeastSignificantBits(), other.getLeastSignificantBits());
+  }
+
+  private record Bucket(UUID id, long version, long index) {
+  }
+}
@@ -0,0 +1,134 @@
+package se.kry.dev.leancoffee.apidoc.services;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.kry.dev.leancoffee.apidoc.data.EventOutboxRecord;
+import se.kry.dev.leancoffee.apidoc.data.EventOutboxRepository;
+import se.kry.dev.leancoffee.apidoc.domain.EventChange;
+import se.kry.dev.leancoffee.apidoc.domain.EventChangeMessage;
+import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
+
+// Changes are recorded by the transaction that makes them and relayed to the sink at least once, in sequence order
+@Service
+public class EventOutbox {
+
+  public static final String METRIC_PUBLISHED = "events.outbox.published";
+
+  public static final String METRIC_RELAY = "events.outbox.relay";
+
+  public static final String METRIC_LAG = "events.outbox.lag";
+
+  private final EventOutboxRepository repository;
+
+  private final EventChangeSink sink;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final Clock clock = Clock.systemUTC();
+
+  private final int batchSize;
+
+  private final Counter published;
+
+  private final Timer relayTimer;
+
+  private final AtomicLong lagMillis = new AtomicLong();
+
+  public EventOutbox(EventOutboxRepository repository,
+                     EventChangeSink sink,
+                     PlatformTransactionManager transactionManager,
+                     @Value("${events.outbox.batch-size:500}") int batchSize,
+                     MeterRegistry registry) {
+    this.repository = repository;
+    this.sink = sink;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+    this.published = Counter.builder(METRIC_PUBLISHED)
+        .description("Changes handed to the sink")
+        .register(registry);
+    this.relayTimer = Timer.builder(METRIC_RELAY)
+        .description("Time spent relaying one batch of changes")
+        .publishPercentileHistogram()
+        .register(registry);
+    TimeGauge.builder(METRIC_LAG, lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+        .description("Age of the oldest change waiting in the outbox when the relay last ran")
+        .register(registry);
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  void record(EventChange change) {
+    repository.save(recordFromChange(change));
+  }
+
+  // Synchronized so a manual relay never overlaps the scheduled one, a single relay per database is expected
+  @Scheduled(fixedDelayString = "${events.outbox.relay-interval:PT1S}")
+  public synchronized void relay() {
+    int relayed;
+    do {
+      relayed = requireNonNull(transactionTemplate.execute(status -> relayTimer.record(this::relayBatch)));
+    } while (relayed == batchSize);
+  }
+
+  private int relayBatch() {
+    var records = repository.findByOrderByIdAsc(PageRequest.ofSize(batchSize));
+    lagMillis.set(records.isEmpty()
+        ? 0
+        : Math.max(0, Duration.between(records.get(0).getCreatedAt(), clock.instant()).toMillis()));
+    if (records.isEmpty()) {
+      return 0;
+    }
+    sink.publish(records.stream().map(this::messageFromRecord).toList());
+    repository.deleteAllInBatch(records);
+    published.increment(records.size());
+    return records.size();
+  }
+
+  private EventOutboxRecord recordFromChange(EventChange change) {
+    var outboxRecord = new EventOutboxRecord()
+        .setCreatedAt(clock.instant())
+        .setType(change.type())
+        .setEventId(change.id());
+    if (change.event() != null) {
+      outboxRecord
+          .setTitle(change.event().title())
+          .setStart(change.event().start())
+          .setEnd(change.event().end())
+          .setVersion(change.event().version());
+    }
+    if (change.event() != null && change.event().recurrence() != null) {
+      var recurrence = change.event().recurrence();
+      outboxRecord
+          .setRecurrenceFrequency(recurrence.frequency())
+          .setRecurrenceInterval(recurrence.interval())
+          .setRecurrenceUntil(recurrence.until())
+          .setRecurrenceCount(recurrence.count());
+    }
+    return outboxRecord;
+  }
+
+  private EventChangeMessage messageFromRecord(EventOutboxRecord outboxRecord) {
+    var event = outboxRecord.getVersion() == null
+        ? null
+        : new EventResponse(outboxRecord.getEventId(), outboxRecord.getTitle(), outboxRecord.getStart(),
+            outboxRecord.getEnd(), outboxRecord.getVersion(), outboxRecord.getRecurrenceFrequency(),
+            outboxRecord.getRecurrenceInterval(), outboxRecord.getRecurrenceUntil(), outboxRecord.getRecurrenceCount());
+    return new EventChangeMessage(outboxRecord.getId(), outboxRecord.getCreatedAt(),
+        new EventChange(outboxRecord.getType(), outboxRecord.getEventId(), event));
+  }
+}
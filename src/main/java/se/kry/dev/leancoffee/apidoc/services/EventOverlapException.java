@@ -0,0 +1,16 @@
+package se.kry.dev.leancoffee.apidoc.services;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+
+@Getter
+public class EventOverlapException extends RuntimeException {
+
+  private final List<UUID> conflicts;
+
+  public EventOverlapException(List<UUID> conflicts) {
+    super("Event overlaps " + conflicts);
+    this.conflicts = List.copyOf(conflicts);
+  }
+}
@@ -0,0 +1,238 @@
+package se.kry.dev.leancoffee.apidoc.services;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import se.kry.dev.leancoffee.apidoc.data.EventRepository;
+import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
+
+// In-memory inverted index over event titles, documents are ints and posting lists plain int arrays
+@Service
+public class EventSearchIndex extends EventIndex<EventSearchIndex.Index> {
+
+  private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+  private static final int SIZE_QUERY_TOKENS_MAX = 8;
+
+  private static final int SIZE_REBUILD_CHUNK = 10_000;
+
+  public EventSearchIndex(EventRepository repository, PlatformTransactionManager transactionManager) {
+    super(repository, transactionManager, new Index());
+  }
+
+  // Every query token has to match a title token, exactly or as a prefix, exact matches rank first
+  public List<UUID> search(@NotNull String query, int limit) {
+    var tokens = tokenize(query);
+    if (tokens.length == 0) {
+      return List.of();
+    }
+    return read(index -> index.search(Arrays.copyOf(tokens, Math.min(tokens.length, SIZE_QUERY_TOKENS_MAX)), limit));
+  }
+
+  static String[] tokenize(String text) {
+    var normalized = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+    return Arrays.stream(TOKEN_SEPARATOR.split(normalized.toLowerCase(Locale.ROOT)))
+        .filter(token -> !token.isEmpty())
+        .distinct()
+        .toArray(String[]::new);
+  }
+
+  @Override
+  Index build(Stream<EventResponse> events) {
+    var rebuilt = new Index();
+    var chunk = new ArrayList<EventResponse>(SIZE_REBUILD_CHUNK);
+    events.forEach(event -> {
+      chunk.add(event);
+      if (chunk.size() == SIZE_REBUILD_CHUNK) {
+        addAll(rebuilt, chunk);
+        chunk.clear();
+      }
+    });
+    addAll(rebuilt, chunk);
+    return rebuilt;
+  }
+
+  @Override
+  void put(Index target, EventResponse event) {
+    target.put(event.id(), tokenize(event.title()));
+  }
+
+  @Override
+  void remove(Index target, UUID id) {
+    target.remove(id);
+  }
+
+  private void addAll(Index target, List<EventResponse> events) {
+    // Tokenizing is the expensive part of a rebuild, the index itself is filled in order
+    var tokens = events.parallelStream().map(event -> tokenize(event.title())).toList();
+    for (var i = 0; i < events.size(); i++) {
+      target.put(events.get(i).id(), tokens.get(i));
+    }
+  }
+
+  static final class Index {
+
+    private static final int SIZE_COMPACTION_MIN = 1024;
+
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+
+    private final Map<UUID, Integer> documents = new HashMap<>();
+
+    private final BitSet live = new BitSet();
+
+    private UUID[] ids = new UUID[16];
+
+    private int[] lengths = new int[16];
+
+    private int size;
+
+    private int removed;
+
+    void put(UUID id, String[] tokens) {
+      remove(id);
+      if (size == ids.length) {
+        ids = Arrays.copyOf(ids, size * 2);
+        lengths = Arrays.copyOf(lengths, size * 2);
+      }
+      var document = size++;
+      ids[document] = id;
+      lengths[document] = tokens.length;
+      live.set(document);
+      documents.put(id, document);
+      for (var token : tokens) {
+        terms.computeIfAbsent(token, t -> new Postings()).add(document);
+      }
+    }
+
+    void remove(UUID id) {
+      var document = documents.remove(id);
+      if (document != null) {
+        live.clear(document);
+        ids[document] = null;
+        if (++removed > SIZE_COMPACTION_MIN && removed > size / 2) {
+          compact();
+        }
+      }
+    }
+
+    List<UUID> search(String[] tokens, int limit) {
+      BitSet matches = null;
+      var exact = new BitSet[tokens.length];
+      for (var i = 0; i < tokens.length; i++) {
+        var prefixed = new BitSet(size);
+        terms.subMap(tokens[i], true, tokens[i] + Character.MAX_VALUE, false)
+            .values()
+            .forEach(postings -> postings.forEach(prefixed::set));
+        exact[i] = new BitSet(size);
+        var postings = terms.get(tokens[i]);
+        if (postings != null) {
+          postings.forEach(exact[i]::set);
+        }
+        if (matches == null) {
+          matches = prefixed;
+        } else {
+          matches.and(prefixed);
+        }
+      }
+      matches.and(live);
+
+      // Best score first, then the shortest title, then the oldest document, packed into one comparable long
+      var top = new PriorityQueue<Long>();
+      for (var document = matches.nextSetBit(0); document >= 0; document = matches.nextSetBit(document + 1)) {
+        var score = 0L;
+        for (var tokenExact : exact) {
+          score += tokenExact.get(document) ? 2 : 1;
+        }
+        top.add(score << 48 | (long) (0xFFFF - Math.min(lengths[document], 0xFFFF)) << 32
+            | (Integer.MAX_VALUE - document));
+        if (top.size() > limit) {
+          top.poll();
+        }
+      }
+      var result = new ArrayList<UUID>(top.size());
+      while (!top.isEmpty()) {
+        result.add(ids[Integer.MAX_VALUE - (int) (top.poll() & 0xFFFFFFFFL)]);
+      }
+      Collections.reverse(result);
+      return result;
+    }
+
+    // Renumbers the live documents so removed ones stop taking room in posting lists
+    private void compact() {
+      var renumbered = new int[size];
+      var next = 0;
+      for (var document = 0; document < size; document++) {
+        if (live.get(document)) {
+          ids[next] = ids[document];
+          lengths[next] = lengths[document];
+          renumbered[document] = next++;
+        } else {
+          renumbered[document] = -1;
+        }
+      }
+      terms.values().removeIf(postings -> postings.renumber(renumbered) == 0);
+      for (var document = next; document < size; document++) {
+        ids[document] = null;
+      }
+      documents.clear();
+      for (var document = 0; document < next; document++) {
+        documents.put(ids[document], document);
+      }
+      live.clear();
+      live.set(0, next);
+      size = next;
+      removed = 0;
+    }
+  }
+
+  // Documents are only ever appended, so posting lists stay sorted without any work
+  private static final class Postings {
+
+    private int[] documents = new int[4];
+
+    private int size;
+
+    void add(int document) {
+      if (size == documents.length) {
+        documents = Arrays.copyOf(documents, Math.max(4, size + (size >> 1)));
+      }
+      documents[size++] = document;
+    }
+
+    void forEach(IntConsumer action) {
+      for (var i = 0; i < size; i++) {
+        action.accept(documents[i]);
+      }
+    }
+
+    int renumber(int[] renumbered) {
+      var kept = 0;
+      for (var i = 0; i < size; i++) {
+        if (renumbered[documents[i]] >= 0) {
+          documents[kept++] = renumbered[documents[i]];
+        }
+      }
+      size = kept;
+      documents = Arrays.copyOf(documents, Math.max(kept, 1));
+      return kept;
+    }
+  }
+}
@@ -1,69 +1,538 @@
 package se.kry.dev.leancoffee.apidoc.services;
 
 import static java.util.Objects.requireNonNull;
+import static se.kry.dev.leancoffee.apidoc.domain.EventConstants.SIZE_PAGE_MAX;
 
+import io.micrometer.core.annotation.Timed;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import jakarta.persistence.EntityManager;
 import jakarta.validation.constraints.NotNull;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import se.kry.dev.leancoffee.apidoc.data.Event;
 import se.kry.dev.leancoffee.apidoc.data.EventRepository;
+import se.kry.dev.leancoffee.apidoc.data.Recurrence;
+import se.kry.dev.leancoffee.apidoc.domain.EventBatchResult;
+import se.kry.dev.leancoffee.apidoc.domain.EventBatchUpdate;
+import se.kry.dev.leancoffee.apidoc.domain.EventChange;
 import se.kry.dev.leancoffee.apidoc.domain.EventCreationRequest;
+import se.kry.dev.leancoffee.apidoc.domain.EventCursor;
+import se.kry.dev.leancoffee.apidoc.domain.EventRecurrence;
 import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
 import se.kry.dev.leancoffee.apidoc.domain.EventUpdateRequest;
+import se.kry.dev.leancoffee.apidoc.domain.EventWindow;
 
 @Service
+@CacheConfig(cacheNames = EventService.CACHE_EVENTS)
 public class EventService {
 
+  public static final String CACHE_EVENTS = "events";
+
+  public static final String METRIC_SERVICE = "events.service";
+
+  private static final int SIZE_BATCH_CHUNK = 500;
+
   private final EventRepository repository;
 
-  public EventService(EventRepository repository) {
+  private final TransactionTemplate transactionTemplate;
+
+  private final Cache cache;
+
+  private final EntityManager entityManager;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final EventSearchIndex searchIndex;
+
+  private final EventIntervalIndex intervalIndex;
+
+  private final EventOccurrences occurrences;
+
+  private final AtomicLong estimatedCount = new AtomicLong(-1);
+
+  public EventService(EventRepository repository,
+                      PlatformTransactionManager transactionManager,
+                      CacheManager cacheManager,
+                      EntityManager entityManager,
+                      ApplicationEventPublisher eventPublisher,
+                      EventSearchIndex searchIndex,
+                      EventIntervalIndex intervalIndex,
+                      EventOccurrences occurrences) {
     this.repository = repository;
+    this.entityManager = entityManager;
+    this.eventPublisher = eventPublisher;
+    this.searchIndex = searchIndex;
+    this.intervalIndex = intervalIndex;
+    this.occurrences = occurrences;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.cache = requireNonNull(cacheManager.getCache(CACHE_EVENTS));
   }
 
+  @Timed(value = METRIC_SERVICE, extraTags = {"operation", "create"}, histogram = true)
   @Transactional
+  @CachePut(key = "#result.id")
   public EventResponse createEvent(@NotNull EventCreationRequest eventCreationRequest) {
-    return responseFromEvent(repository.save(newEventFromCreationRequest(eventCreationRequest)));
+    var event = responseFromEvent(repository.save(newEventFromCreationRequest(eventCreationRequest)));
+    eventPublisher.publishEvent(EventChange.created(event));
+    return event;
+  }
+
+  @Timed(value = METRIC_SERVICE, extraTags = {"operation", "create"}, histogram = true)
+  @Transactional
+  @CachePut(key = "#result.id")
+  public EventResponse createEvent(@NotNull EventCreationRequest eventCreationRequest, boolean rejectOnOverlap) {
+    if (rejectOnOverlap) {
+      rejectOverlaps(eventCreationRequest.getStart(), eventCreationRequest.getEnd(),
+          eventCreationRequest.getRecurrence(), Optional.empty());
+    }
+    return createEvent(eventCreationRequest);
+  }
+
+  public List<EventBatchResult> createEvents(@NotNull List<EventCreationRequest> eventCreationRequests) {
+    var results = new ArrayList<EventBatchResult>(eventCreationRequests.size());
+    forEachChunk(eventCreationRequests, chunk -> {
+      var events = requireNonNull(transactionTemplate.execute(status -> {
+        var saved = repository.saveAll(chunk.stream().map(this::newEventFromCreationRequest).toList());
+        repository.flush();
+        var responses = saved.stream().map(this::responseFromEvent).toList();
+        responses.forEach(event -> eventPublisher.publishEvent(EventChange.created(event)));
+        return responses;
+      }));
+      events.forEach(event -> {
+        cache.put(event.id(), event);
+        results.add(EventBatchResult.of(results.size(), EventBatchResult.Status.CREATED, event));
+      });
+    });
+    return results;
+  }
+
+  @Transactional
+  public int importEvents(@NotNull List<EventCreationRequest> eventCreationRequests) {
+    var saved = repository.saveAll(eventCreationRequests.stream().map(this::newEventFromCreationRequest).toList());
+    repository.flush();
+    // Indexes, the change feed and the outbox hear of imported events as they do of created ones
+    saved.forEach(event -> eventPublisher.publishEvent(EventChange.created(responseFromEvent(event))));
+    entityManager.clear();
+    return eventCreationRequests.size();
+  }
+
+  public List<EventBatchResult> updateEvents(@NotNull List<EventBatchUpdate> eventBatchUpdates) {
+    var results = new ArrayList<EventBatchResult>(eventBatchUpdates.size());
+    forEachChunk(eventBatchUpdates, chunk -> {
+      var chunkResults = requireNonNull(transactionTemplate.execute(status -> {
+        var events = repository.findAllById(chunk.stream().map(EventBatchUpdate::id).collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(Event::getId, Function.identity()));
+        var statuses = chunk.stream()
+            .map(update -> updateEventFromBatchUpdate(events.get(update.id()), update))
+            .toList();
+        repository.flush();
+        var updated = IntStream.range(0, chunk.size())
+            .mapToObj(i -> EventBatchResult.of(results.size() + i, statuses.get(i),
+                statuses.get(i) == EventBatchResult.Status.UPDATED
+                    ? responseFromEvent(events.get(chunk.get(i).id()))
+                    : null))
+            .toList();
+        updated.stream()
+            .filter(result -> result.event() != null)
+            .forEach(result -> eventPublisher.publishEvent(EventChange.updated(result.event())));
+        return updated;
+      }));
+      chunkResults.stream()
+          .filter(result -> result.event() != null)
+          .forEach(result -> cache.put(result.event().id(), result.event()));
+      results.addAll(chunkResults);
+    });
+    return results;
+  }
+
+  public List<EventBatchResult> deleteEvents(@NotNull List<UUID> ids) {
+    var results = new ArrayList<EventBatchResult>(ids.size());
+    forEachChunk(ids, chunk -> {
+      var deleted = requireNonNull(transactionTemplate.execute(status -> {
+        var existing = Set.copyOf(repository.findExistingIds(Set.copyOf(chunk)));
+        repository.deleteAllByIdInBatch(existing);
+        existing.forEach(id -> eventPublisher.publishEvent(EventChange.deleted(id)));
+        return existing;
+      }));
+      chunk.forEach(id -> {
+        cache.evict(id);
+        results.add(EventBatchResult.of(results.size(),
+            deleted.contains(id) ? EventBatchResult.Status.DELETED : EventBatchResult.Status.NOT_FOUND,
+            null));
+      });
+    });
+    return results;
   }
 
+  @Timed(value = METRIC_SERVICE, extraTags = {"operation", "list"}, histogram = true)
+  @Transactional(readOnly = true)
   public Page<EventResponse> getEvents(@NotNull Pageable pageable) {
-    return repository.findAll(pageable).map(this::responseFromEvent);
+    return repository.findResponsePageBy(pageable);
   }
 
+  @Timed(value = METRIC_SERVICE, extraTags = {"operation", "list"}, histogram = true)
+  @Transactional(readOnly = true)
+  public Slice<EventResponse> getEventsSlice(@NotNull Pageable pageable) {
+    return repository.findResponseSliceBy(pageable);
+  }
+
+  // The total may lag behind writes until the next refresh, but never contradicts the content of the page itself
+  @Timed(value = METRIC_SERVICE, extraTags = {"operation", "list"}, histogram = true)
+  @Transactional(readOnly = true)
+  public Page<EventResponse> getEventsEstimated(@NotNull Pageable pageable) {
+    var slice = getEventsSlice(pageable);
+    var seen = (pageable.isPaged() ? pageable.getOffset() : 0) + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+    return new PageImpl<>(slice.getContent(), pageable, Math.max(seen, estimatedCount()));
+  }
+
+  @Scheduled(fixedDelayString = "${events.count.refresh-interval:PT1M}")
+  public void refreshEstimatedCount() {
+    estimatedCount.set(repository.count());
+  }
+
+  private long estimatedCount() {
+    if (estimatedCount.get() < 0) {
+      refreshEstimatedCount();
+    }
+    return estimatedCount.get();
+  }
+
+  @Timed(value = METRIC_SERVICE, extraTags = {"operation", "scroll"}, histogram = true)
+  @Transactional(readOnly = true)
+  public EventWindow getEventsAfter(Optional<EventCursor> cursor, int size) {
+    var limit = limitFromSize(size);
+    var events = cursor
+        .map(c -> repository.findAfter(c.start(), c.id(), limit))
+        .orElseGet(() -> repository.findFromStart(limit));
+    var content = events.stream().limit(limit.getPageSize() - 1L).toList();
+    return new EventWindow(content,
+        cursor.flatMap(c -> firstCursor(content)),
+        events.size() > content.size() ? lastCursor(content) : Optional.empty());
+  }
+
+  @Timed(value = METRIC_SERVICE, extraTags = {"operation", "scroll"}, histogram = true)
+  @Transactional(readOnly = true)
+  public EventWindow getEventsBetween(@NotNull LocalDateTime from, @NotNull LocalDateTime to,
+                                      Optional<EventCursor> cursor, int size) {
+    var limit = limitFromSize(size);
+    var events = cursor
+        .map(c -> repository.findBetweenAfter(from, to, c.start(), c.id(), limit))
+        .orElseGet(() -> repository.findBetween(from, to, limit));
+    var series = repository.findSeriesBetween(from, to).stream().map(this::responseFromEvent).toList();
+    if (!series.isEmpty()) {
+      events = Stream.concat(events.stream(),
+              occurrences.between(series, from, to, cursor, limit.getPageSize()).stream())
+          .sorted(EventOccurrences.ORDER)
+          .limit(limit.getPageSize())
+          .toList();
+    }
+    var content = events.stream().limit(limit.getPageSize() - 1L).toList();
+    return new EventWindow(content,
+        Optional.empty(),
+        events.size() > content.size() ? lastCursor(content) : Optional.empty());
+  }
+
+  @Timed(value = METRIC_SERVICE, extraTags = {"operation", "scroll"}, histogram = true)
+  @Transactional(readOnly = true)
+  public EventWindow getEventsBefore(@NotNull EventCursor cursor, int size) {
+    var limit = limitFromSize(size);
+    var events = repository.findBefore(cursor.start(), cursor.id(), limit);
+    var content = events.stream()
+        .limit(limit.getPageSize() - 1L)
+        .collect(Collectors.toCollection(ArrayList::new));
+    Collections.reverse(content);
+    return new EventWindow(content,
+        events.size() > content.size() ? firstCursor(content) : Optional.empty(),
+        lastCursor(content));
+  }
+
+  @Timed(value = METRIC_SERVICE, extraTags = {"operation", "search"}, histogram = true)
+  @Transactional(readOnly = true)
+  public List<EventResponse> searchEvents(@NotNull String query, int size) {
+    return responsesInOrder(searchIndex.search(query, Math.max(1, Math.min(size, SIZE_PAGE_MAX))));
+  }
+
+  @Timed(value = METRIC_SERVICE, extraTags = {"operation", "conflicts"}, histogram = true)
+  @Transactional(readOnly = true)
+  public List<EventResponse> getConflicts(@NotNull LocalDateTime start, @NotNull LocalDateTime end,
+                                          Optional<UUID> excluded, int size) {
+    var limit = Math.max(1, Math.min(size, SIZE_PAGE_MAX));
+    return responsesInOrder(overlapping(start, end, excluded, seriesBetween(start, end, excluded), limit));
+  }
+
+  @Transactional(readOnly = true)
+  public void exportEvents(@NotNull Consumer<EventResponse> consumer) {
+    try (var events = repository.streamAllBy()) {
+      events.forEach(event -> {
+        consumer.accept(responseFromEvent(event));
+        // Keeps the persistence context, hence memory, constant whatever the table size
+        entityManager.detach(event);
+      });
+    }
+  }
+
+  // Not read-only, so that misses read the primary: filled from a lagging replica, the cache would keep serving a
+  // stale or deleted event to every client until it expires
+  @Timed(value = METRIC_SERVICE, extraTags = {"operation", "get"}, histogram = true)
+  @Transactional
+  @Cacheable(key = "#id", unless = "#result == null")
   public Optional<EventResponse> getEvent(@NotNull UUID id) {
     return repository.findById(id).map(this::responseFromEvent);
   }
 
+  @Timed(value = METRIC_SERVICE, extraTags = {"operation", "update"}, histogram = true)
+  @Transactional
+  @CachePut(key = "#id", unless = "#result == null")
   public Optional<EventResponse> updateEvent(@NotNull UUID id, @NotNull EventUpdateRequest eventUpdateRequest) {
-    return repository.findById(id)
-        .map(event -> updateEventFromUpdateRequest(event, eventUpdateRequest))
-        .map(repository::save)
-        .map(this::responseFromEvent);
+    var updated = repository.updatePartially(id,
+        eventUpdateRequest.getTitle().orElse(null),
+        eventUpdateRequest.getStart().orElse(null),
+        eventUpdateRequest.getEnd().orElse(null));
+    if (updated == 0) {
+      return Optional.empty();
+    }
+    return readUpdated(id);
   }
 
+  @Timed(value = METRIC_SERVICE, extraTags = {"operation", "update"}, histogram = true)
   @Transactional
+  @CachePut(key = "#id", unless = "#result == null")
+  public Optional<EventResponse> updateEvent(@NotNull UUID id, @NotNull EventUpdateRequest eventUpdateRequest,
+                                             boolean rejectOnOverlap) {
+    var event = updateEvent(id, eventUpdateRequest);
+    if (rejectOnOverlap) {
+      event.ifPresent(updated -> rejectOverlaps(updated.start(), updated.end(), updated.recurrence(), Optional.of(id)));
+    }
+    return event;
+  }
+
+  @Timed(value = METRIC_SERVICE, extraTags = {"operation", "update"}, histogram = true)
+  @Transactional
+  @CachePut(key = "#id", unless = "#result == null")
+  public Optional<EventResponse> updateEvent(@NotNull UUID id, @NotNull EventUpdateRequest eventUpdateRequest,
+                                             long expectedVersion) {
+    var updated = repository.updatePartially(id, expectedVersion,
+        eventUpdateRequest.getTitle().orElse(null),
+        eventUpdateRequest.getStart().orElse(null),
+        eventUpdateRequest.getEnd().orElse(null));
+    if (updated == 0) {
+      // Only the failure path pays for telling a missing event from a stale version
+      return repository.findById(id).map(event -> checkVersion(event, expectedVersion)).map(this::responseFromEvent);
+    }
+    return readUpdated(id);
+  }
+
+  @Timed(value = METRIC_SERVICE, extraTags = {"operation", "update"}, histogram = true)
+  @Transactional
+  @CachePut(key = "#id", unless = "#result == null")
+  public Optional<EventResponse> updateEvent(@NotNull UUID id, @NotNull EventUpdateRequest eventUpdateRequest,
+                                             long expectedVersion, boolean rejectOnOverlap) {
+    var event = updateEvent(id, eventUpdateRequest, expectedVersion);
+    if (rejectOnOverlap) {
+      event.ifPresent(updated -> rejectOverlaps(updated.start(), updated.end(), updated.recurrence(), Optional.of(id)));
+    }
+    return event;
+  }
+
+  @Timed(value = METRIC_SERVICE, extraTags = {"operation", "delete"}, histogram = true)
+  @Transactional
+  @CacheEvict(key = "#id")
   public void deleteEvent(@NotNull UUID id) {
-    repository.deleteById(id);
+    repository.findById(id).ifPresent(this::deleteAndPublish);
+  }
+
+  @Timed(value = METRIC_SERVICE, extraTags = {"operation", "delete"}, histogram = true)
+  @Transactional
+  @CacheEvict(key = "#id")
+  public void deleteEvent(@NotNull UUID id, long expectedVersion) {
+    // A missing event does not match the expected version either, unlike an unconditional delete
+    var event = repository.findById(id).orElseThrow(() -> new OptimisticLockingFailureException(
+        String.format("Event %s does not exist, expected version %d", id, expectedVersion)));
+    deleteAndPublish(checkVersion(event, expectedVersion));
+  }
+
+  // Checked against the committed events, throwing rolls back the update of the surrounding transaction. A series is
+  // checked occurrence by occurrence, up to as many occurrences as a range read expands.
+  private void rejectOverlaps(@NotNull LocalDateTime start, @NotNull LocalDateTime end, EventRecurrence recurrence,
+                              Optional<UUID> excluded) {
+    var duration = Duration.between(start, end);
+    var starts = recurrence == null ? List.<LocalDateTime>of() : recurrence.startsFrom(start, 0,
+        EventOccurrences.SIZE_EXPANSION_MAX);
+    if (starts.isEmpty()) {
+      starts = List.of(start);
+    }
+    var series = seriesBetween(start, starts.get(starts.size() - 1).plus(duration), excluded);
+    var conflicts = new LinkedHashSet<UUID>();
+    for (var occurrenceStart : starts) {
+      if (conflicts.size() >= SIZE_PAGE_MAX) {
+        break;
+      }
+      conflicts.addAll(overlapping(occurrenceStart, occurrenceStart.plus(duration), excluded, series, SIZE_PAGE_MAX));
+    }
+    if (!conflicts.isEmpty()) {
+      throw new EventOverlapException(conflicts.stream().limit(SIZE_PAGE_MAX).toList());
+    }
+  }
+
+  private List<EventResponse> seriesBetween(@NotNull LocalDateTime from, @NotNull LocalDateTime to,
+                                            Optional<UUID> excluded) {
+    return repository.findSeriesBetween(from, to).stream()
+        .filter(event -> excluded.filter(event.getId()::equals).isEmpty())
+        .map(this::responseFromEvent)
+        .toList();
+  }
+
+  // The interval index holds the first occurrence of series only, later ones are expanded for the range checked
+  private List<UUID> overlapping(@NotNull LocalDateTime start, @NotNull LocalDateTime end, Optional<UUID> excluded,
+                                 List<EventResponse> series, int limit) {
+    var occurring = occurrences.between(series, start, end, Optional.empty(), limit).stream().map(EventResponse::id);
+    return Stream.concat(intervalIndex.overlapping(start, end, excluded, limit).stream(), occurring)
+        .distinct()
+        .limit(limit)
+        .toList();
+  }
+
+  private List<EventResponse> responsesInOrder(List<UUID> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    var events = repository.findResponsesByIdIn(ids).stream()
+        .collect(Collectors.toMap(EventResponse::id, Function.identity()));
+    // Keeps the order of the index, skipping events deleted since
+    return ids.stream().map(events::get).filter(Objects::nonNull).toList();
+  }
+
+  // The partial update does not know the end of series, which follows their new start and end here
+  private Optional<EventResponse> readUpdated(@NotNull UUID id) {
+    var event = repository.findById(id);
+    event.filter(series -> series.getRecurrence() != null)
+        .filter(series -> !Objects.equals(series.getRecurrence().getEnds(), seriesEnds(series)))
+        .ifPresent(series -> repository.updateSeriesEnds(id, seriesEnds(series)));
+    return event.map(this::responseFromEvent).map(this::publishUpdated);
+  }
+
+  private EventResponse publishUpdated(@NotNull EventResponse event) {
+    eventPublisher.publishEvent(EventChange.updated(event));
+    return event;
+  }
+
+  private void deleteAndPublish(@NotNull Event event) {
+    repository.delete(event);
+    eventPublisher.publishEvent(EventChange.deleted(responseFromEvent(event)));
   }
 
   private Event newEventFromCreationRequest(@NotNull EventCreationRequest eventCreationRequest) {
-    return new Event()
+    var recurrence = eventCreationRequest.getRecurrence();
+    var event = new Event()
         .setTitle(eventCreationRequest.getTitle())
         .setStart(eventCreationRequest.getStart())
-        .setEnd(eventCreationRequest.getEnd());
+        .setEnd(eventCreationRequest.getEnd())
+        .setRecurrence(recurrence == null ? null : new Recurrence()
+            .setFrequency(recurrence.frequency())
+            .setInterval(recurrence.interval())
+            .setUntil(recurrence.until())
+            .setCount(recurrence.count()));
+    if (recurrence != null) {
+      event.getRecurrence().setEnds(seriesEnds(event));
+    }
+    return event;
   }
 
   private Event updateEventFromUpdateRequest(@NotNull Event event, @NotNull EventUpdateRequest eventUpdateRequest) {
     eventUpdateRequest.getTitle().ifPresent(event::setTitle);
     eventUpdateRequest.getStart().ifPresent(event::setStart);
     eventUpdateRequest.getEnd().ifPresent(event::setEnd);
+    if (event.getRecurrence() != null) {
+      event.getRecurrence().setEnds(seriesEnds(event));
+    }
     return event;
   }
 
-  private EventResponse responseFromEvent(Event event) {
-    return new EventResponse(requireNonNull(event.getId()), event.getTitle(), event.getStart(), event.getEnd());
+  private EventBatchResult.Status updateEventFromBatchUpdate(Event event, @NotNull EventBatchUpdate update) {
+    if (event == null) {
+      return EventBatchResult.Status.NOT_FOUND;
+    }
+    if (update.expectedVersion().filter(version -> version != event.getVersion()).isPresent()) {
+      return EventBatchResult.Status.CONFLICT;
+    }
+    updateEventFromUpdateRequest(event, update.eventUpdateRequest());
+    return EventBatchResult.Status.UPDATED;
+  }
+
+  private <T> void forEachChunk(List<T> items, Consumer<List<T>> action) {
+    // Each chunk is its own transaction, keeping the persistence context and JDBC batches bounded
+    for (var from = 0; from < items.size(); from += SIZE_BATCH_CHUNK) {
+      action.accept(items.subList(from, Math.min(from + SIZE_BATCH_CHUNK, items.size())));
+    }
+  }
+
+  private Event checkVersion(@NotNull Event event, long expectedVersion) {
+    if (event.getVersion() != expectedVersion) {
+      throw new OptimisticLockingFailureException(
+          String.format("Event %s is at version %d, expected %d", event.getId(), event.getVersion(), expectedVersion));
+    }
+    return event;
+  }
+
+  private Pageable limitFromSize(int size) {
+    // One extra row tells whether another window follows, without counting
+    return PageRequest.ofSize(Math.max(1, Math.min(size, SIZE_PAGE_MAX)) + 1);
+  }
+
+  private Optional<EventCursor> firstCursor(List<EventResponse> content) {
+    return content.stream().findFirst().map(EventCursor::of);
+  }
+
+  private Optional<EventCursor> lastCursor(List<EventResponse> content) {
+    return content.isEmpty() ? Optional.empty() : Optional.of(EventCursor.of(content.get(content.size() - 1)));
+  }
+
+  private static LocalDateTime seriesEnds(@NotNull Event series) {
+    return recurrenceFromEvent(series).lastStart(series.getStart())
+        .map(lastStart -> lastStart.plus(Duration.between(series.getStart(), series.getEnd())))
+        .orElse(null);
+  }
+
+  private static EventRecurrence recurrenceFromEvent(Event event) {
+    var recurrence = event.getRecurrence();
+    return recurrence == null ? null : new EventRecurrence(recurrence.getFrequency(), recurrence.getInterval(),
+        recurrence.getUntil(), recurrence.getCount());
+  }
+
+  EventResponse responseFromEvent(Event event) {
+    return new EventResponse(requireNonNull(event.getId()), event.getTitle(), event.getStart(), event.getEnd(),
+        event.getVersion(), recurrenceFromEvent(event));
   }
 }
@@ -0,0 +1,182 @@
+package se.kry.dev.leancoffee.apidoc.web;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import se.kry.dev.leancoffee.apidoc.domain.EventChange;
+
+// Committing threads only enqueue, each subscriber is written to by at most one executor task at a time. Writes block
+// on slow clients, for up to the connector's connection timeout, so every subscriber being written to holds a thread of
+// its own rather than waiting behind stalled clients for a shared one.
+@Component
+class EventChangeBroadcaster implements DisposableBean {
+
+  static final String METRIC_SUBSCRIBERS = "events.changes.subscribers";
+
+  static final String METRIC_OVERFLOWS = "events.changes.overflows";
+
+  enum Overflow {
+    // Skips the changes a subscriber has no room for, it will miss them
+    DROP,
+    // Completes the stream of a subscriber that fell behind, it is expected to reconnect and reload
+    DISCONNECT
+  }
+
+  private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+  private final Executor executor;
+
+  private final int bufferSize;
+
+  private final Overflow overflow;
+
+  private final Counter overflows;
+
+  @Autowired
+  EventChangeBroadcaster(@Value("${events.changes.threads:256}") int threads,
+                         @Value("${events.changes.buffer-size:256}") int bufferSize,
+                         @Value("${events.changes.overflow:disconnect}") Overflow overflow,
+                         MeterRegistry registry) {
+    this(newExecutor(threads), bufferSize, overflow, registry);
+  }
+
+  EventChangeBroadcaster(Executor executor, int bufferSize, Overflow overflow, MeterRegistry registry) {
+    this.executor = executor;
+    this.bufferSize = bufferSize;
+    this.overflow = overflow;
+    this.overflows = Counter.builder(METRIC_OVERFLOWS)
+        .description("Changes a subscriber had no buffer left for")
+        .tag("overflow", overflow.name().toLowerCase(Locale.ROOT))
+        .register(registry);
+    registry.gaugeCollectionSize(METRIC_SUBSCRIBERS, Tags.empty(), subscribers);
+  }
+
+  private static ThreadPoolTaskExecutor newExecutor(int threads) {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(0);
+    executor.setMaxPoolSize(threads);
+    executor.setQueueCapacity(0);
+    executor.setThreadNamePrefix("event-changes-");
+    executor.initialize();
+    return executor;
+  }
+
+  @Override
+  public void destroy() {
+    if (executor instanceof ThreadPoolTaskExecutor threadPool) {
+      threadPool.shutdown();
+    }
+  }
+
+  SseEmitter subscribe(LocalDateTime from, LocalDateTime to) {
+    return subscribe(new SseEmitter(), from, to);
+  }
+
+  SseEmitter subscribe(SseEmitter emitter, LocalDateTime from, LocalDateTime to) {
+    var subscriber = new Subscriber(emitter, from, to, new ArrayBlockingQueue<>(bufferSize));
+    subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+    subscriber.emitter.onTimeout(() -> subscribers.remove(subscriber));
+    subscriber.emitter.onError(e -> subscribers.remove(subscriber));
+    subscribers.add(subscriber);
+    return subscriber.emitter;
+  }
+
+  // Changes of rolled back transactions are never sent
+  @TransactionalEventListener(fallbackExecution = true)
+  void broadcast(EventChange change) {
+    for (var subscriber : subscribers) {
+      if (!change.overlaps(subscriber.from, subscriber.to)) {
+        continue;
+      }
+      if (subscriber.queue.offer(change)) {
+        drain(subscriber);
+      } else {
+        overflowed(subscriber);
+      }
+    }
+  }
+
+  private void drain(Subscriber subscriber) {
+    if (!subscriber.draining.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      executor.execute(() -> {
+        try {
+          for (var change = subscriber.queue.poll(); change != null; change = subscriber.queue.poll()) {
+            subscriber.emitter.send(SseEmitter.event()
+                .name(change.type().name().toLowerCase(Locale.ROOT))
+                .data(change, MediaType.APPLICATION_JSON));
+          }
+        } catch (IOException | IllegalStateException e) {
+          // The client went away, the emitter callbacks remove it
+          subscribers.remove(subscriber);
+          subscriber.queue.clear();
+        } finally {
+          subscriber.draining.set(false);
+        }
+        if (subscriber.disconnected.get()) {
+          complete(subscriber);
+        } else if (!subscriber.queue.isEmpty() && subscribers.contains(subscriber)) {
+          drain(subscriber);
+        }
+      });
+    } catch (TaskRejectedException e) {
+      // No thread left, a dropping subscriber keeps its changes until the next one is broadcast
+      subscriber.draining.set(false);
+      overflowed(subscriber);
+    }
+  }
+
+  private void overflowed(Subscriber subscriber) {
+    overflows.increment();
+    if (overflow == Overflow.DISCONNECT) {
+      disconnect(subscriber);
+    }
+  }
+
+  private void disconnect(Subscriber subscriber) {
+    if (subscribers.remove(subscriber)) {
+      subscriber.disconnected.set(true);
+      complete(subscriber);
+    }
+  }
+
+  // Completing waits for a send in progress, so a subscriber being written to is completed by its drain once the send
+  // returns rather than by the committing thread. Whichever of the two gets hold of the emitter completes it.
+  private void complete(Subscriber subscriber) {
+    if (subscriber.draining.compareAndSet(false, true)) {
+      subscriber.emitter.complete();
+    }
+  }
+
+  private record Subscriber(SseEmitter emitter,
+                            LocalDateTime from,
+                            LocalDateTime to,
+                            BlockingQueue<EventChange> queue,
+                            AtomicBoolean draining,
+                            AtomicBoolean disconnected) {
+
+    private Subscriber(SseEmitter emitter, LocalDateTime from, LocalDateTime to, BlockingQueue<EventChange> queue) {
+      this(emitter, from, to, queue, new AtomicBoolean(), new AtomicBoolean());
+    }
+  }
+}
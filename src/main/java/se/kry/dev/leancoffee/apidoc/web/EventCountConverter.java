@@ -0,0 +1,16 @@
+package se.kry.dev.leancoffee.apidoc.web;
+
+import java.util.Locale;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+import se.kry.dev.leancoffee.apidoc.domain.EventCount;
+
+// Lets clients write count=none like every other request parameter instead of count=NONE
+@Component
+class EventCountConverter implements Converter<String, EventCount> {
+
+  @Override
+  public EventCount convert(String source) {
+    return EventCount.valueOf(source.trim().toUpperCase(Locale.ROOT));
+  }
+}
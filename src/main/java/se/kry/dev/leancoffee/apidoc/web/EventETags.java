@@ -0,0 +1,85 @@
+package se.kry.dev.leancoffee.apidoc.web;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
+
+final class EventETags {
+
+  static final String DEFAULT_VARIANT = "";
+
+  private static final int SIZE_VARIANT = 8;
+
+  private EventETags() {
+  }
+
+  static String of(EventResponse event) {
+    return of(event, DEFAULT_VARIANT);
+  }
+
+  // The version leads, so that the tag of any representation still works as an If-Match precondition
+  static String of(EventResponse event, String variant) {
+    return quote(variant.isEmpty() ? Long.toString(event.version()) : event.version() + "-" + variant);
+  }
+
+  static String of(Slice<EventResponse> slice, String variant) {
+    var builder = new StringBuilder(variant).append(':')
+        .append(slice.getNumber()).append(':')
+        .append(slice.getSize()).append(':')
+        .append(slice instanceof Page<EventResponse> page ? page.getTotalElements() : slice.hasNext()).append(':')
+        .append(slice.getSort());
+    slice.forEach(event -> builder.append(':').append(event.id()).append('@').append(event.version()));
+    return quote(DigestUtils.md5DigestAsHex(builder.toString().getBytes(UTF_8)));
+  }
+
+  /**
+   * Tells the representations of a same event or listing apart, as their bodies differ: the accepted media types,
+   * hence the negotiated one, the selected fields and the links. Empty for the default representation.
+   */
+  static String variant(WebRequest request, Optional<Set<String>> fields, boolean hypermedia) {
+    var accept = Optional.ofNullable(request.getHeaderValues(HttpHeaders.ACCEPT))
+        .map(values -> String.join(",", values))
+        .filter(values -> !values.isEmpty() && !values.equals("*/*"))
+        .orElse("");
+    if (accept.isEmpty() && fields.isEmpty() && hypermedia) {
+      return DEFAULT_VARIANT;
+    }
+    var key = accept + '|' + fields.map(TreeSet::new).orElse(null) + '|' + hypermedia;
+    return DigestUtils.md5DigestAsHex(key.getBytes(UTF_8)).substring(0, SIZE_VARIANT);
+  }
+
+  /**
+   * Reads the event version a client expects from an {@code If-Match} header.
+   * Empty when there is no precondition, {@code -1} when the precondition can never match an event.
+   */
+  static Optional<Long> expectedVersion(List<String> ifMatch) {
+    if (ifMatch.isEmpty() || ifMatch.contains("*")) {
+      return Optional.empty();
+    }
+    if (ifMatch.size() == 1) {
+      var etag = ifMatch.get(0);
+      if (etag.length() > 2 && etag.startsWith("\"") && etag.endsWith("\"")) {
+        var tag = etag.substring(1, etag.length() - 1);
+        try {
+          return Optional.of(Long.parseLong(tag.contains("-") ? tag.substring(0, tag.indexOf('-')) : tag));
+        } catch (NumberFormatException e) {
+          // Not one of our entity tags
+        }
+      }
+    }
+    return Optional.of(-1L);
+  }
+
+  private static String quote(String tag) {
+    return '"' + tag + '"';
+  }
+}
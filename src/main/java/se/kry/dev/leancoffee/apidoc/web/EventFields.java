@@ -0,0 +1,94 @@
+package se.kry.dev.leancoffee.apidoc.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
+
+/**
+ * Sparse fieldsets for {@link EventResponse}: the property writers of unselected fields skip themselves while the
+ * response is written, rather than the content being copied and filtered beforehand. The selection is a request
+ * attribute, read once per serialization.
+ */
+@Component
+class EventFields extends SimpleModule {
+
+  static final Set<String> NAMES = Arrays.stream(EventResponse.class.getRecordComponents())
+      .map(RecordComponent::getName)
+      .collect(Collectors.toUnmodifiableSet());
+
+  private static final String ATTRIBUTE = EventFields.class.getName();
+
+  EventFields() {
+    super(EventFields.class.getSimpleName());
+    setSerializerModifier(new BeanSerializerModifier() {
+      @Override
+      public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                                                       List<BeanPropertyWriter> beanProperties) {
+        if (beanDesc.getBeanClass() != EventResponse.class) {
+          return beanProperties;
+        }
+        return beanProperties.stream().<BeanPropertyWriter>map(SelectableWriter::new).toList();
+      }
+    });
+  }
+
+  // False when a field is unknown, nothing is selected then
+  static boolean select(Collection<String> fields) {
+    if (!NAMES.containsAll(fields)) {
+      return false;
+    }
+    RequestContextHolder.currentRequestAttributes()
+        .setAttribute(ATTRIBUTE, Set.copyOf(fields), RequestAttributes.SCOPE_REQUEST);
+    return true;
+  }
+
+  private static final class SelectableWriter extends BeanPropertyWriter {
+
+    private SelectableWriter(BeanPropertyWriter base) {
+      super(base);
+    }
+
+    // Renamed copies, as made for unwrapped content, keep skipping unselected fields
+    @Override
+    protected BeanPropertyWriter _new(PropertyName newName) {
+      return new SelectableWriter(super._new(newName));
+    }
+
+    @Override
+    public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+      if (selected(prov).contains(getName())) {
+        super.serializeAsField(bean, gen, prov);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<String> selected(SerializerProvider provider) {
+      var selected = provider.getAttribute(ATTRIBUTE);
+      if (selected == null) {
+        // Outside of a request, in change feeds or exports, every field is written
+        var request = RequestContextHolder.getRequestAttributes();
+        selected = request == null ? null : request.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (selected == null) {
+          selected = NAMES;
+        }
+        provider.setAttribute(ATTRIBUTE, selected);
+      }
+      return (Set<String>) selected;
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package se.kry.dev.leancoffee.apidoc.web;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+import java.util.UUID;
+import org.springframework.core.ResolvableType;
+import org.springframework.hateoas.AffordanceModel.InputPayloadMetadata;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.mediatype.Affordances;
+import org.springframework.hateoas.mediatype.PropertyUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import se.kry.dev.leancoffee.apidoc.domain.EventUpdateRequest;
+
+/**
+ * Builds the same links and affordances as {@code linkTo(methodOn(EventsController.class)...)}, without a proxy
+ * invocation and mapping lookup for every event: the affordance metadata is resolved once, and only the base URI
+ * (cached per request by Spring HATEOAS) is looked up per link.
+ */
+@Component
+class EventLinks {
+
+  private final InputPayloadMetadata updateEventInput =
+      PropertyUtils.getExposedProperties(ResolvableType.forClass(EventUpdateRequest.class));
+
+  private final InputPayloadMetadata deleteEventInput = PropertyUtils.getExposedProperties(ResolvableType.NONE);
+
+  Link eventLink(UUID id) {
+    return Link.of(eventsHref() + '/' + id);
+  }
+
+  Link eventLinkWithAffordances(UUID id) {
+    return Affordances.of(eventLink(id))
+        .afford(HttpMethod.PATCH).withInput(updateEventInput).withName("updateEvent")
+        .andAfford(HttpMethod.DELETE).withInput(deleteEventInput).withName("deleteEvent")
+        .toLink();
+  }
+
+  private String eventsHref() {
+    return linkTo(EventsController.class).toUri().toString();
+  }
+}
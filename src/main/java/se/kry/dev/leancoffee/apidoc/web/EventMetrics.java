@@ -0,0 +1,47 @@
+package se.kry.dev.leancoffee.apidoc.web;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import se.kry.dev.leancoffee.apidoc.domain.EventCount;
+
+// Service and repository time are measured on their own, this covers what the web layer adds on top
+@Component
+class EventMetrics {
+
+  static final String METRIC_ASSEMBLY = "events.web.assembly";
+
+  static final String METRIC_NOT_FOUND = "events.web.not_found";
+
+  static final String METRIC_PAGE_SIZE = "events.web.page.size";
+
+  private final MeterRegistry registry;
+
+  EventMetrics(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  <T> T assembly(String operation, Supplier<T> model) {
+    return Timer.builder(METRIC_ASSEMBLY)
+        .description("Time spent building hypermedia representations")
+        .tag("operation", operation)
+        .publishPercentileHistogram()
+        .register(registry)
+        .record(model);
+  }
+
+  void notFound(String operation) {
+    registry.counter(METRIC_NOT_FOUND, "operation", operation).increment();
+  }
+
+  void pageSize(EventCount count, int size) {
+    DistributionSummary.builder(METRIC_PAGE_SIZE)
+        .description("Page sizes requested by clients")
+        .tag("count", count.name().toLowerCase(Locale.ROOT))
+        .register(registry)
+        .record(size);
+  }
+}
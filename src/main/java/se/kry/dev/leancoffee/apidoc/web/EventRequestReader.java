@@ -0,0 +1,55 @@
+package se.kry.dev.leancoffee.apidoc.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+
+@Component
+class EventRequestReader {
+
+  private final ObjectMapper objectMapper;
+
+  private final Validator validator;
+
+  EventRequestReader(ObjectMapper objectMapper, Validator validator) {
+    this.objectMapper = objectMapper;
+    this.validator = validator;
+  }
+
+  <T> Read<T> read(String json, Class<T> type) {
+    JsonNode node;
+    try {
+      node = objectMapper.readTree(json);
+    } catch (JsonProcessingException e) {
+      return new Read<>(null, List.of(e.getOriginalMessage()));
+    }
+    return read(node, type);
+  }
+
+  <T> Read<T> read(JsonNode node, Class<T> type) {
+    T request;
+    try {
+      request = objectMapper.treeToValue(node, type);
+    } catch (JsonProcessingException e) {
+      return new Read<>(null, List.of(e.getOriginalMessage()));
+    }
+    if (request == null) {
+      return new Read<>(null, List.of("must not be null"));
+    }
+    var errors = validator.validate(request).stream()
+        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+        .sorted()
+        .toList();
+    return new Read<>(errors.isEmpty() ? request : null, errors);
+  }
+
+  record Read<T>(T request, List<String> errors) {
+
+    boolean isValid() {
+      return request != null;
+    }
+  }
+}
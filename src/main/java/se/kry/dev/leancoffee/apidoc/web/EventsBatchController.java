@@ -0,0 +1,117 @@
+package se.kry.dev.leancoffee.apidoc.web;
+
+import static se.kry.dev.leancoffee.apidoc.domain.EventConstants.SIZE_BATCH_MAX;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import se.kry.dev.leancoffee.apidoc.domain.EventBatchResult;
+import se.kry.dev.leancoffee.apidoc.domain.EventBatchUpdate;
+import se.kry.dev.leancoffee.apidoc.domain.EventCreationRequest;
+import se.kry.dev.leancoffee.apidoc.domain.EventUpdateRequest;
+import se.kry.dev.leancoffee.apidoc.services.EventService;
+
+@RestController
+@RequestMapping("events/batch")
+public class EventsBatchController {
+
+  private final EventService service;
+
+  private final EventRequestReader reader;
+
+  public EventsBatchController(EventService service, EventRequestReader reader) {
+    this.service = service;
+    this.reader = reader;
+  }
+
+  @PostMapping
+  ResponseEntity<List<EventBatchResult>> createEvents(@RequestBody List<JsonNode> items) {
+    if (items.size() > SIZE_BATCH_MAX) {
+      return ResponseEntity.badRequest().build();
+    }
+    return ResponseEntity.ok(process(items,
+        item -> reader.read(item, EventCreationRequest.class),
+        service::createEvents));
+  }
+
+  @PatchMapping
+  ResponseEntity<List<EventBatchResult>> updateEvents(@RequestBody List<JsonNode> items) {
+    if (items.size() > SIZE_BATCH_MAX) {
+      return ResponseEntity.badRequest().build();
+    }
+    return ResponseEntity.ok(process(items, this::readUpdate, service::updateEvents));
+  }
+
+  @DeleteMapping
+  ResponseEntity<List<EventBatchResult>> deleteEvents(@RequestBody List<JsonNode> items) {
+    if (items.size() > SIZE_BATCH_MAX) {
+      return ResponseEntity.badRequest().build();
+    }
+    return ResponseEntity.ok(process(items,
+        item -> readId(item).map(id -> new EventRequestReader.Read<>(id, List.<String>of()))
+            .orElseGet(() -> new EventRequestReader.Read<>(null, List.of("id: must be a UUID"))),
+        service::deleteEvents));
+  }
+
+  private EventRequestReader.Read<EventBatchUpdate> readUpdate(JsonNode item) {
+    var id = readId(item.path("id"));
+    if (id.isEmpty()) {
+      return new EventRequestReader.Read<>(null, List.of("id: must be a UUID"));
+    }
+    var version = item.path("version");
+    if (!version.isMissingNode() && !version.canConvertToLong()) {
+      return new EventRequestReader.Read<>(null, List.of("version: must be a number"));
+    }
+    var read = reader.read(item, EventUpdateRequest.class);
+    if (!read.isValid()) {
+      return new EventRequestReader.Read<>(null, read.errors());
+    }
+    return new EventRequestReader.Read<>(
+        new EventBatchUpdate(id.get(),
+            version.isMissingNode() ? Optional.empty() : Optional.of(version.asLong()),
+            read.request()),
+        List.of());
+  }
+
+  private Optional<UUID> readId(JsonNode item) {
+    try {
+      return item.isTextual() ? Optional.of(UUID.fromString(item.asText())) : Optional.empty();
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+
+  private <T> List<EventBatchResult> process(List<JsonNode> items,
+                                             Function<JsonNode, EventRequestReader.Read<T>> read,
+                                             Function<List<T>, List<EventBatchResult>> apply) {
+    var results = new EventBatchResult[items.size()];
+    var valid = new ArrayList<T>(items.size());
+    var validIndexes = new ArrayList<Integer>(items.size());
+    for (var index = 0; index < items.size(); index++) {
+      var item = read.apply(items.get(index));
+      if (item.isValid()) {
+        valid.add(item.request());
+        validIndexes.add(index);
+      } else {
+        results[index] = EventBatchResult.invalid(index, item.errors());
+      }
+    }
+    var applied = apply.apply(valid);
+    for (var i = 0; i < applied.size(); i++) {
+      var index = validIndexes.get(i);
+      results[index] = applied.get(i).withIndex(index);
+    }
+    return Arrays.asList(results);
+  }
+}
@@ -0,0 +1,33 @@
+package se.kry.dev.leancoffee.apidoc.web;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("events")
+public class EventsChangesController {
+
+  private final EventChangeBroadcaster broadcaster;
+
+  public EventsChangesController(EventChangeBroadcaster broadcaster) {
+    this.broadcaster = broadcaster;
+  }
+
+  @GetMapping(value = "changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  ResponseEntity<SseEmitter> streamChanges(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> to) {
+    if (from.isPresent() && to.isPresent() && !from.get().isBefore(to.get())) {
+      return ResponseEntity.badRequest().build();
+    }
+    return ResponseEntity.ok(broadcaster.subscribe(from.orElse(null), to.orElse(null)));
+  }
+}
@@ -1,33 +1,48 @@
 package se.kry.dev.leancoffee.apidoc.web;
 
 import static java.util.Objects.requireNonNull;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.afford;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import jakarta.validation.Valid;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PagedResourcesAssembler;
-import org.springframework.hateoas.Affordance;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.server.ExposesResourceFor;
+import org.springframework.hateoas.server.core.EmbeddedWrappers;
 import org.springframework.hateoas.server.SimpleRepresentationModelAssembler;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import se.kry.dev.leancoffee.apidoc.domain.EventCount;
 import se.kry.dev.leancoffee.apidoc.domain.EventCreationRequest;
 import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
 import se.kry.dev.leancoffee.apidoc.domain.EventUpdateRequest;
+import se.kry.dev.leancoffee.apidoc.services.EventOverlapException;
 import se.kry.dev.leancoffee.apidoc.services.EventService;
 
 @RestController
@@ -37,75 +52,164 @@ public class EventsController {
 
   private final EventService service;
 
-  public EventsController(EventService service) {
+  private final EventLinks links;
+
+  private final EventMetrics metrics;
+
+  public EventsController(EventService service, EventLinks links, EventMetrics metrics) {
     this.service = service;
+    this.links = links;
+    this.metrics = metrics;
   }
 
   @PostMapping
-  ResponseEntity<EntityModel<EventResponse>> createEvent(@Valid @RequestBody EventCreationRequest eventCreationRequest) {
-    var event = service.createEvent(eventCreationRequest);
-    var link = readEventLink(event.id());
-    return ResponseEntity.created(link.toUri()).body(EntityModel.of(event).add(link));
+  ResponseEntity<EntityModel<EventResponse>> createEvent(
+      @Valid @RequestBody EventCreationRequest eventCreationRequest,
+      @RequestParam(defaultValue = "false") boolean rejectOnOverlap) {
+    var event = service.createEvent(eventCreationRequest, rejectOnOverlap);
+    var link = links.eventLink(event.id());
+    return ResponseEntity.created(link.toUri()).eTag(EventETags.of(event))
+        .body(metrics.assembly("create", () -> EntityModel.of(event).add(link)));
   }
 
   @GetMapping
-  PagedModel<EntityModel<EventResponse>> readEvents(
+  ResponseEntity<CollectionModel<?>> readEvents(
       Pageable pageable,
-      PagedResourcesAssembler<EventResponse> pagedResourcesAssembler) {
-    return pagedResourcesAssembler.toModel(service.getEvents(pageable),
-        new SimpleRepresentationModelAssembler<>() {
-          @Override
-          public void addLinks(EntityModel<EventResponse> resource) {
-            resource.add(readEventLink(requireNonNull(resource.getContent()).id()));
-          }
-
-          @Override
-          public void addLinks(CollectionModel<EntityModel<EventResponse>> resources) {
+      @RequestParam(defaultValue = "exact") EventCount count,
+      @RequestParam Optional<Set<String>> fields,
+      @RequestParam(defaultValue = "true") boolean hypermedia,
+      PagedResourcesAssembler<EventResponse> pagedResourcesAssembler,
+      WebRequest request) {
+    if (!fields.map(EventFields::select).orElse(true)) {
+      return ResponseEntity.badRequest().build();
+    }
+    metrics.pageSize(count, pageable.isPaged() ? pageable.getPageSize() : 0);
+    var events = switch (count) {
+      case EXACT -> service.getEvents(pageable);
+      case ESTIMATED -> service.getEventsEstimated(pageable);
+      case NONE -> service.getEventsSlice(pageable);
+    };
+    var etag = EventETags.of(events, EventETags.variant(request, fields, hypermedia));
+    if (request.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+    }
+    var ok = ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT);
+    if (!hypermedia) {
+      return ok.body(metrics.assembly("list", () -> plainModel(events)));
+    }
+    if (events instanceof Page<EventResponse> page) {
+      return ok.body(metrics.assembly("list", () -> pagedResourcesAssembler.toModel(page,
+          new SimpleRepresentationModelAssembler<>() {
+            @Override
+            public void addLinks(EntityModel<EventResponse> resource) {
+              resource.add(links.eventLink(requireNonNull(resource.getContent()).id()));
+            }
+
+            @Override
+            public void addLinks(CollectionModel<EntityModel<EventResponse>> resources) {
 // Empty for now
-          }
-        });
+            }
+          })));
+    }
+    return ok.body(metrics.assembly("list", () -> sliceModel(events)));
   }
 
   @GetMapping("{id}")
-  ResponseEntity<EntityModel<EventResponse>> readEvent(@PathVariable UUID id) {
-    return service.getEvent(id)
-        .map(EntityModel::of)
-        .map(entity -> entity.add(
-            readEventLink(id)
-                .andAffordance(updateEventAffordance(id))
-                .andAffordance(deleteEventAffordance(id))))
-        .map(ResponseEntity::ok)
-        .orElseGet(() -> ResponseEntity.notFound().build());
+  ResponseEntity<EntityModel<EventResponse>> readEvent(
+      @PathVariable UUID id,
+      @RequestParam Optional<Set<String>> fields,
+      @RequestParam(defaultValue = "true") boolean hypermedia,
+      WebRequest request) {
+    if (!fields.map(EventFields::select).orElse(true)) {
+      return ResponseEntity.badRequest().build();
+    }
+    var event = service.getEvent(id);
+    if (event.isEmpty()) {
+      metrics.notFound("get");
+      return ResponseEntity.notFound().build();
+    }
+    var etag = EventETags.of(event.get(), EventETags.variant(request, fields, hypermedia));
+    if (request.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+    }
+    var ok = ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT);
+    if (!hypermedia) {
+      return ok.body(EntityModel.of(event.get()));
+    }
+    return ok.body(metrics.assembly("get", () -> EntityModel.of(event.get()).add(
+        links.eventLinkWithAffordances(id))));
   }
 
   @PatchMapping("{id}")
   ResponseEntity<EntityModel<EventResponse>> updateEvent(
       @PathVariable UUID id,
-      @Valid @RequestBody EventUpdateRequest eventUpdateRequest) {
-    return service.updateEvent(id, eventUpdateRequest)
-        .map(EntityModel::of)
-        .map(entity -> entity.add(readEventLink(id)
-            .andAffordance(updateEventAffordance(id))
-            .andAffordance(deleteEventAffordance(id))))
-        .map(ResponseEntity::ok)
-        .orElseGet(() -> ResponseEntity.notFound().build());
+      @Valid @RequestBody EventUpdateRequest eventUpdateRequest,
+      @RequestParam(defaultValue = "false") boolean rejectOnOverlap,
+      @RequestHeader HttpHeaders headers) {
+    return EventETags.expectedVersion(headers.getIfMatch())
+        .map(version -> service.updateEvent(id, eventUpdateRequest, version, rejectOnOverlap))
+        .orElseGet(() -> service.updateEvent(id, eventUpdateRequest, rejectOnOverlap))
+        .map(event -> ResponseEntity.ok().eTag(EventETags.of(event)).body(metrics.assembly("update", () ->
+            EntityModel.of(event).add(links.eventLinkWithAffordances(id)))))
+        .orElseGet(() -> {
+          metrics.notFound("update");
+          return ResponseEntity.notFound().build();
+        });
   }
 
   @DeleteMapping("{id}")
-  ResponseEntity<Void> deleteEvent(@PathVariable UUID id) {
-    service.deleteEvent(id);
+  ResponseEntity<Void> deleteEvent(@PathVariable UUID id, @RequestHeader HttpHeaders headers) {
+    EventETags.expectedVersion(headers.getIfMatch()).ifPresentOrElse(
+        version -> service.deleteEvent(id, version),
+        () -> service.deleteEvent(id));
     return ResponseEntity.noContent().build();
   }
 
-  private Link readEventLink(UUID id) {
-    return linkTo(methodOn(EventsController.class).readEvent(id)).withSelfRel();
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  ResponseEntity<Void> versionConflict() {
+    return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+  }
+
+  // Tells the client which events to move or to pass as exclude= to the conflicts read
+  @ExceptionHandler(EventOverlapException.class)
+  ResponseEntity<ProblemDetail> overlapConflict(EventOverlapException e) {
+    var problem = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, "The event overlaps existing events");
+    problem.setProperty("conflicts", e.getConflicts());
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(problem);
+  }
+
+  // Neither links nor entity models, the responses are embedded as they are
+  private static CollectionModel<?> plainModel(Slice<EventResponse> events) {
+    var content = events.hasContent()
+        ? events.getContent()
+        : List.of(new EmbeddedWrappers(false).emptyCollectionOf(EventResponse.class));
+    if (events instanceof Page<EventResponse> page) {
+      return PagedModel.of(content, new PagedModel.PageMetadata(page.getSize(), page.getNumber(),
+          page.getTotalElements(), page.getTotalPages()));
+    }
+    return CollectionModel.of(content);
   }
 
-  private Affordance updateEventAffordance(UUID id) {
-    return afford(methodOn(EventsController.class).updateEvent(id, null));
+  // Without a total there is no last page to link to, only the neighbours of the current slice
+  private CollectionModel<?> sliceModel(Slice<EventResponse> slice) {
+    var model = slice.hasContent()
+        ? CollectionModel.of(slice.map(event -> EntityModel.of(event).add(links.eventLink(event.id()))).getContent())
+        : CollectionModel.of(List.of(new EmbeddedWrappers(false).emptyCollectionOf(EventResponse.class)));
+    if (slice.hasPrevious()) {
+      model.add(sliceLink(slice.previousPageable(), IanaLinkRelations.PREV));
+    }
+    model.add(sliceLink(slice.getPageable(), IanaLinkRelations.SELF));
+    if (slice.hasNext()) {
+      model.add(sliceLink(slice.nextPageable(), IanaLinkRelations.NEXT));
+    }
+    return model;
   }
 
-  private Affordance deleteEventAffordance(UUID id) {
-    return afford(methodOn(EventsController.class).deleteEvent(id));
+  private static Link sliceLink(Pageable pageable, LinkRelation relation) {
+    var builder = ServletUriComponentsBuilder.fromCurrentRequest();
+    if (pageable.isPaged()) {
+      builder.replaceQueryParam("page", pageable.getPageNumber()).replaceQueryParam("size", pageable.getPageSize());
+    }
+    return Link.of(builder.build().toUriString(), relation);
   }
 }
@@ -0,0 +1,70 @@
+package se.kry.dev.leancoffee.apidoc.web;
+
+import static se.kry.dev.leancoffee.apidoc.domain.EventConstants.SIZE_IMPORT_CHUNK;
+import static se.kry.dev.leancoffee.apidoc.domain.EventConstants.SIZE_IMPORT_ERRORS_MAX;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import se.kry.dev.leancoffee.apidoc.domain.EventBatchResult;
+import se.kry.dev.leancoffee.apidoc.domain.EventCreationRequest;
+import se.kry.dev.leancoffee.apidoc.domain.EventImportResult;
+import se.kry.dev.leancoffee.apidoc.services.EventService;
+
+@RestController
+@RequestMapping("events/import")
+public class EventsImportController {
+
+  private final EventService service;
+
+  private final EventRequestReader reader;
+
+  public EventsImportController(EventService service, EventRequestReader reader) {
+    this.service = service;
+    this.reader = reader;
+  }
+
+  @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  ResponseEntity<EventImportResult> importEvents(InputStream body) throws IOException {
+    var created = 0L;
+    var rejected = 0L;
+    var errors = new ArrayList<EventBatchResult>();
+    var chunk = new ArrayList<EventCreationRequest>(SIZE_IMPORT_CHUNK);
+    // Blocking reads only pull the next line once the previous chunk is stored
+    try (var lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+      var lineNumber = 0;
+      String line;
+      while ((line = lines.readLine()) != null) {
+        lineNumber++;
+        if (line.isBlank()) {
+          continue;
+        }
+        var read = reader.read(line, EventCreationRequest.class);
+        if (read.isValid()) {
+          chunk.add(read.request());
+          if (chunk.size() == SIZE_IMPORT_CHUNK) {
+            created += service.importEvents(chunk);
+            chunk.clear();
+          }
+        } else {
+          rejected++;
+          if (errors.size() < SIZE_IMPORT_ERRORS_MAX) {
+            errors.add(EventBatchResult.invalid(lineNumber, read.errors()));
+          }
+        }
+      }
+    }
+    if (!chunk.isEmpty()) {
+      created += service.importEvents(chunk);
+    }
+    return ResponseEntity.ok(new EventImportResult(created, rejected, errors));
+  }
+}
@@ -0,0 +1,154 @@
+package se.kry.dev.leancoffee.apidoc.web;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import se.kry.dev.leancoffee.apidoc.domain.EventCursor;
+import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
+import se.kry.dev.leancoffee.apidoc.services.EventService;
+
+@RestController
+@RequestMapping("events")
+public class EventsQueryController {
+
+  private final EventService service;
+
+  private final EventLinks links;
+
+  private final ObjectWriter exportWriter;
+
+  public EventsQueryController(EventService service, EventLinks links, ObjectMapper objectMapper) {
+    this.service = service;
+    this.links = links;
+    this.exportWriter = objectMapper.writerFor(EventResponse.class)
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+  }
+
+  @GetMapping("scroll")
+  CollectionModel<EntityModel<EventResponse>> scrollEvents(
+      @RequestParam Optional<EventCursor> after,
+      @RequestParam Optional<EventCursor> before,
+      @RequestParam(defaultValue = "20") int size) {
+    var window = before.isPresent()
+        ? service.getEventsBefore(before.get(), size)
+        : service.getEventsAfter(after, size);
+    var model = eventsModel(window.content());
+    model.add(before.map(cursor -> scrollEventsLink("before", cursor, size, IanaLinkRelations.SELF))
+        .orElseGet(() -> scrollEventsLink("after", after.orElse(null), size, IanaLinkRelations.SELF)));
+    window.previous().ifPresent(cursor -> model.add(scrollEventsLink("before", cursor, size, IanaLinkRelations.PREV)));
+    window.next().ifPresent(cursor -> model.add(scrollEventsLink("after", cursor, size, IanaLinkRelations.NEXT)));
+    return model;
+  }
+
+  @GetMapping("search")
+  ResponseEntity<CollectionModel<EntityModel<EventResponse>>> searchEvents(
+      @RequestParam String q,
+      @RequestParam(defaultValue = "20") int size) {
+    if (q.isBlank()) {
+      return ResponseEntity.badRequest().build();
+    }
+    return ResponseEntity.ok(eventsModel(service.searchEvents(q, size)).add(Link.of(
+        linkTo(EventsQueryController.class).slash("search").toUriComponentsBuilder()
+            .queryParam("q", q)
+            .queryParam("size", size)
+            .encode()
+            .build()
+            .toUriString())));
+  }
+
+  @GetMapping("conflicts")
+  ResponseEntity<CollectionModel<EntityModel<EventResponse>>> readConflicts(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+      @RequestParam Optional<UUID> exclude,
+      @RequestParam(defaultValue = "20") int size) {
+    if (!start.isBefore(end)) {
+      return ResponseEntity.badRequest().build();
+    }
+    var builder = linkTo(EventsQueryController.class).slash("conflicts").toUriComponentsBuilder()
+        .queryParam("start", start)
+        .queryParam("end", end);
+    exclude.ifPresent(id -> builder.queryParam("exclude", id));
+    return ResponseEntity.ok(eventsModel(service.getConflicts(start, end, exclude, size))
+        .add(Link.of(builder.queryParam("size", size).build().toUriString())));
+  }
+
+  @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  ResponseEntity<StreamingResponseBody> exportEvents() {
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(output -> {
+      try (var generator = exportWriter.getFactory().createGenerator(output)) {
+        generator.setRootValueSeparator(null);
+        service.exportEvents(event -> {
+          try {
+            exportWriter.writeValue(generator, event);
+            generator.writeRaw('\n');
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      }
+    });
+  }
+
+  @GetMapping(params = {"from", "to"})
+  ResponseEntity<CollectionModel<EntityModel<EventResponse>>> readEventsBetween(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+      @RequestParam Optional<EventCursor> after,
+      @RequestParam(defaultValue = "20") int size) {
+    if (!from.isBefore(to)) {
+      return ResponseEntity.badRequest().build();
+    }
+    var window = service.getEventsBetween(from, to, after, size);
+    var model = eventsModel(window.content())
+        .add(eventsBetweenLink(from, to, after.orElse(null), size, IanaLinkRelations.SELF));
+    window.next().ifPresent(cursor -> model.add(eventsBetweenLink(from, to, cursor, size, IanaLinkRelations.NEXT)));
+    return ResponseEntity.ok(model);
+  }
+
+  private CollectionModel<EntityModel<EventResponse>> eventsModel(List<EventResponse> events) {
+    return CollectionModel.of(events.stream()
+        .map(event -> EntityModel.of(event).add(links.eventLink(event.id())))
+        .toList());
+  }
+
+  private Link eventsBetweenLink(LocalDateTime from, LocalDateTime to, EventCursor cursor, int size,
+                                 LinkRelation relation) {
+    var builder = linkTo(EventsQueryController.class).toUriComponentsBuilder()
+        .queryParam("from", from)
+        .queryParam("to", to);
+    if (cursor != null) {
+      builder.queryParam("after", cursor);
+    }
+    return Link.of(builder.queryParam("size", size).build().toUriString(), relation);
+  }
+
+  private Link scrollEventsLink(String cursorParameter, EventCursor cursor, int size, LinkRelation relation) {
+    var builder = linkTo(EventsQueryController.class).slash("scroll").toUriComponentsBuilder();
+    if (cursor != null) {
+      builder.queryParam(cursorParameter, cursor);
+    }
+    return Link.of(builder.queryParam("size", size).build().toUriString(), relation);
+  }
+}
@@ -93,6 +93,7 @@ class ApplicationTest {
                 titleField(),
                 startField(),
                 endField(),
+                versionField(),
                 linksSubsection()
             )))
         .andReturn();
@@ -165,6 +166,7 @@ class ApplicationTest {
                 titleField(),
                 startField(),
                 endField(),
+                versionField(),
                 linksSubsection(),
                 templatesSubsection()
             )));
@@ -190,6 +192,7 @@ class ApplicationTest {
                 titleField(),
                 startField(),
                 endField(),
+                versionField(),
                 linksSubsection(),
                 templatesSubsection()
             )));
@@ -246,6 +249,11 @@ class ApplicationTest {
     return fieldWithPath("end").description("End date time of this event, required to be after start");
   }
 
+  private FieldDescriptor versionField() {
+    return fieldWithPath("version").description(
+        "Version of this event, incremented on every update and exposed as the entity tag (ETag) of the resource");
+  }
+
   private FieldDescriptor pageSubsection() {
     return subsectionWithPath("page").description("Embedded resources");
   }
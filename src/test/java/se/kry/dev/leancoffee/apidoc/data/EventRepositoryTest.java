@@ -10,11 +10,15 @@ import java.time.Month;
 import java.util.UUID;
 import java.util.stream.IntStream;
 import jakarta.validation.ConstraintViolationException;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
 
 @DataJpaTest
 class EventRepositoryTest {
@@ -61,6 +65,111 @@ class EventRepositoryTest {
     assertThat(events.getSize()).isEqualTo(20);
   }
 
+  @Test
+  void get_event_responses() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+    IntStream.range(0, 50)
+        .mapToObj(i -> new Event().setTitle("Event" + i).setStart(start.plusDays(i)).setEnd(start.plusDays(i).plusHours(12)))
+        .forEach(entityManager::persist);
+    entityManager.flush();
+    entityManager.clear();
+
+    var page = repository.findResponsePageBy(PageRequest.of(1, 20, Sort.by(Sort.Direction.DESC, "start")));
+    assertThat(page.getTotalElements()).isEqualTo(50);
+    assertThat(page.getContent()).hasSize(20);
+    assertThat(page.getContent().get(0).title()).isEqualTo("Event29");
+    assertThat(page.getContent().get(0).version()).isZero();
+
+    var slice = repository.findResponseSliceBy(PageRequest.of(2, 20, Sort.by("start")));
+    assertThat(slice.getContent()).extracting(EventResponse::title).startsWith("Event40").hasSize(10);
+    assertThat(slice.hasNext()).isFalse();
+
+    assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+  }
+
+  @Test
+  void update_event_partially() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+    var id =
+        entityManager.persistAndGetId(new Event().setTitle("Some event").setStart(start).setEnd(start.plusHours(12)),
+            UUID.class);
+
+    assertThat(repository.updatePartially(id, null, start.plusHours(1), null)).isEqualTo(1);
+    assertThat(repository.updatePartially(id, 0, "Some other event", null, null)).isZero();
+    assertThat(repository.updatePartially(id, 1, "Some other event", null, null)).isEqualTo(1);
+    assertThat(repository.updatePartially(UUID.randomUUID(), "Missing event", null, null)).isZero();
+
+    assertThat(repository.findById(id)).hasValueSatisfying(e -> {
+      assertThat(e.getTitle()).isEqualTo("Some other event");
+      assertThat(e.getStart()).hasToString("2001-01-01T01:00");
+      assertThat(e.getEnd()).hasToString("2001-01-01T12:00");
+      assertThat(e.getVersion()).isEqualTo(2);
+    });
+  }
+
+  @Test
+  void get_events_after_and_before() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+    IntStream.range(0, 50)
+        .mapToObj(i -> new Event().setTitle("Event" + i).setStart(start.plusDays(i)).setEnd(start.plusDays(i).plusHours(12)))
+        .forEach(entityManager::persist);
+
+    var first = repository.findFromStart(Pageable.ofSize(20));
+    assertThat(first).hasSize(20);
+    assertThat(first.get(0).title()).isEqualTo("Event0");
+    assertThat(first.get(19).title()).isEqualTo("Event19");
+
+    var last = first.get(19);
+    var after = repository.findAfter(last.start(), last.id(), Pageable.ofSize(20));
+    assertThat(after).hasSize(20);
+    assertThat(after.get(0).title()).isEqualTo("Event20");
+    assertThat(after.get(19).title()).isEqualTo("Event39");
+
+    var next = after.get(0);
+    var before = repository.findBefore(next.start(), next.id(), Pageable.ofSize(5));
+    assertThat(before).extracting(EventResponse::title)
+        .containsExactly("Event19", "Event18", "Event17", "Event16", "Event15");
+  }
+
+  @Test
+  void get_events_after_with_same_start() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+    IntStream.range(0, 10)
+        .mapToObj(i -> new Event().setTitle("Event" + i).setStart(start).setEnd(start.plusHours(12)))
+        .forEach(entityManager::persist);
+
+    var first = repository.findFromStart(Pageable.ofSize(4));
+    var last = first.get(3);
+    var after = repository.findAfter(last.start(), last.id(), Pageable.ofSize(10));
+
+    assertThat(after).hasSize(6).doesNotContainAnyElementsOf(first);
+  }
+
+  @Test
+  void get_events_between() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+    IntStream.range(0, 50)
+        .mapToObj(i -> new Event().setTitle("Event" + i).setStart(start.plusDays(i)).setEnd(start.plusDays(i).plusHours(12)))
+        .forEach(entityManager::persist);
+
+    var from = start.plusDays(10).plusHours(6);
+    var to = start.plusDays(13).plusHours(6);
+
+    var events = repository.findBetween(from, to, Pageable.ofSize(20));
+    assertThat(events).extracting(EventResponse::title)
+        .containsExactly("Event10", "Event11", "Event12", "Event13");
+
+    var last = events.get(1);
+    var after = repository.findBetweenAfter(from, to, last.start(), last.id(), Pageable.ofSize(20));
+    assertThat(after).extracting(EventResponse::title)
+        .containsExactly("Event12", "Event13");
+  }
+
   @Test
   void save_event() {
     var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
@@ -68,6 +177,7 @@ class EventRepositoryTest {
 
     assertThat(event).isNotNull();
     assertThat(event.getId()).isNotNull();
+    assertThat(event.getId().version()).isEqualTo(7);
     assertFalse(event.isNew());
     assertThat(event.getTitle()).isEqualTo("Some event");
     assertThat(event.getStart()).hasToString("2001-01-01T00:00");
@@ -0,0 +1,58 @@
+package se.kry.dev.leancoffee.apidoc.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidGeneratorTest {
+
+  private static final Comparator<UUID> UNSIGNED = Comparator
+      .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+      .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+  @Test
+  void generate_version_7() {
+    var clock = 1_700_000_000_000L;
+    var generator = new TimeOrderedUuidGenerator(() -> clock);
+
+    var uuid = generator.next();
+
+    assertThat(uuid.version()).isEqualTo(7);
+    assertThat(uuid.variant()).isEqualTo(2);
+    assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(clock);
+  }
+
+  @Test
+  void generate_ordered_within_same_millisecond() {
+    var generator = new TimeOrderedUuidGenerator(() -> 1_700_000_000_000L);
+
+    var uuids = IntStream.range(0, 10_000).mapToObj(i -> generator.next()).toList();
+
+    assertThat(uuids).isSortedAccordingTo(UNSIGNED).doesNotHaveDuplicates();
+  }
+
+  @Test
+  void generate_ordered_when_clock_goes_backwards() {
+    var clock = new AtomicLong(1_700_000_000_000L);
+    var generator = new TimeOrderedUuidGenerator(clock::get);
+
+    var first = generator.next();
+    clock.addAndGet(-1000);
+    var second = generator.next();
+
+    assertThat(UNSIGNED.compare(first, second)).isNegative();
+  }
+
+  @Test
+  void generate_ordered_concurrently() {
+    var generator = new TimeOrderedUuidGenerator();
+
+    var uuids = IntStream.range(0, 100_000).parallel().mapToObj(i -> generator.next()).toList();
+
+    assertThat(uuids).doesNotHaveDuplicates();
+  }
+}
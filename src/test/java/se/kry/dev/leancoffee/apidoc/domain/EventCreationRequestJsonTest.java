@@ -38,4 +38,13 @@ class EventCreationRequestJsonTest {
     assertThat(event.getEnd()).hasToString("2001-01-01T12:00");
   }
 
+  @Test
+  void deserialize_recurrence() throws IOException {
+    var event = jacksonTester.parseObject("""
+        {"title":"Some event","start":"2001-01-01T00:00:00","end":"2001-01-01T12:00:00",\
+        "recurrence":{"frequency":"WEEKLY","count":10}}""");
+
+    assertThat(event.getRecurrence()).isEqualTo(new EventRecurrence(EventRecurrence.Frequency.WEEKLY, 1, null, 10));
+  }
+
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package se.kry.dev.leancoffee.apidoc.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import org.junit.jupiter.api.Test;
+
+class EventRecurrenceTest {
+
+  private static final LocalDateTime FIRST = LocalDate.of(2001, Month.JANUARY, 31).atTime(LocalTime.NOON);
+
+  @Test
+  void weekly_with_count() {
+    var recurrence = new EventRecurrence(EventRecurrence.Frequency.WEEKLY, null, null, 3);
+
+    assertThat(recurrence.startsBetween(FIRST, FIRST.minusDays(1), FIRST.plusYears(1), 10))
+        .containsExactly(FIRST, FIRST.plusWeeks(1), FIRST.plusWeeks(2));
+  }
+
+  @Test
+  void monthly_keeps_the_day_of_the_first_occurrence() {
+    var recurrence = new EventRecurrence(EventRecurrence.Frequency.MONTHLY, 1, null, null);
+
+    assertThat(recurrence.startsBetween(FIRST, FIRST.minusDays(1), FIRST.plusYears(1), 4)).containsExactly(
+        FIRST,
+        LocalDate.of(2001, Month.FEBRUARY, 28).atTime(LocalTime.NOON),
+        LocalDate.of(2001, Month.MARCH, 31).atTime(LocalTime.NOON),
+        LocalDate.of(2001, Month.APRIL, 30).atTime(LocalTime.NOON));
+  }
+
+  @Test
+  void until_is_inclusive() {
+    var recurrence = new EventRecurrence(EventRecurrence.Frequency.DAILY, 2, FIRST.plusDays(4), null);
+
+    assertThat(recurrence.startsBetween(FIRST, FIRST.minusDays(1), FIRST.plusYears(1), 10))
+        .containsExactly(FIRST, FIRST.plusDays(2), FIRST.plusDays(4));
+  }
+
+  @Test
+  void window_far_from_the_first_occurrence() {
+    var recurrence = new EventRecurrence(EventRecurrence.Frequency.DAILY, 3, null, null);
+    var after = FIRST.plusYears(20).plusHours(5);
+    var before = after.plusDays(10);
+
+    var expected = recurrence.startsBetween(FIRST, FIRST.minusDays(1), before, Integer.MAX_VALUE).stream()
+        .filter(start -> start.isAfter(after))
+        .toList();
+
+    assertThat(expected).hasSize(3);
+    assertThat(recurrence.startsBetween(FIRST, after, before, 10)).isEqualTo(expected);
+    assertThat(recurrence.startsBetween(FIRST, after, before, 2)).isEqualTo(expected.subList(0, 2));
+  }
+
+  @Test
+  void window_before_the_first_occurrence() {
+    var recurrence = new EventRecurrence(EventRecurrence.Frequency.YEARLY, 1, null, null);
+
+    assertThat(recurrence.startsBetween(FIRST, FIRST.minusYears(2), FIRST.minusYears(1), 10)).isEmpty();
+    assertThat(recurrence.startsBetween(FIRST, FIRST.minusYears(2), FIRST.plusYears(1), 10)).containsExactly(FIRST);
+  }
+
+  @Test
+  void starts_from_index() {
+    var recurrence = new EventRecurrence(EventRecurrence.Frequency.MONTHLY, 2, FIRST.plusMonths(9), null);
+
+    assertThat(recurrence.startsFrom(FIRST, 2, 2)).containsExactly(FIRST.plusMonths(4), FIRST.plusMonths(6));
+    assertThat(recurrence.startsFrom(FIRST, 4, 10)).containsExactly(FIRST.plusMonths(8));
+    assertThat(new EventRecurrence(EventRecurrence.Frequency.DAILY, 1, null, 3).startsFrom(FIRST, 2, 10))
+        .containsExactly(FIRST.plusDays(2));
+    assertThat(recurrence.indexBefore(FIRST, FIRST.plusMonths(5))).isEqualTo(1);
+    assertThat(recurrence.indexBefore(FIRST, FIRST.minusDays(1))).isZero();
+  }
+
+  @Test
+  void last_start() {
+    assertThat(new EventRecurrence(EventRecurrence.Frequency.WEEKLY, 2, null, 3).lastStart(FIRST))
+        .contains(FIRST.plusWeeks(4));
+    assertThat(new EventRecurrence(EventRecurrence.Frequency.MONTHLY, 1, FIRST.plusMonths(1).plusDays(1), null)
+        .lastStart(FIRST)).contains(LocalDate.of(2001, Month.FEBRUARY, 28).atTime(LocalTime.NOON));
+    assertThat(new EventRecurrence(EventRecurrence.Frequency.DAILY, 1, FIRST.plusDays(10), 3).lastStart(FIRST))
+        .contains(FIRST.plusDays(2));
+    assertThat(new EventRecurrence(EventRecurrence.Frequency.DAILY, 1, FIRST.plusDays(1), 3).lastStart(FIRST))
+        .contains(FIRST.plusDays(1));
+    assertThat(new EventRecurrence(EventRecurrence.Frequency.YEARLY, 1, null, null).lastStart(FIRST)).isEmpty();
+  }
+}
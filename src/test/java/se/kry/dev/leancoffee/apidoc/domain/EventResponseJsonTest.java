@@ -23,7 +23,7 @@ class EventResponseJsonTest {
     var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
     var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
 
-    var jsonContent = jacksonTester.write(new EventResponse(uuid, "Some event", start, start.plusHours(12)));
+    var jsonContent = jacksonTester.write(new EventResponse(uuid, "Some event", start, start.plusHours(12), 1));
 
     assertThat(jsonContent).isEqualToJson("EventResponse.json");
   }
@@ -37,6 +37,7 @@ class EventResponseJsonTest {
     assertThat(event.title()).isEqualTo("Some event");
     assertThat(event.start()).hasToString("2001-01-01T00:00");
     assertThat(event.end()).hasToString("2001-01-01T12:00");
+    assertThat(event.version()).isEqualTo(1);
   }
 
 }
\ No newline at end of file
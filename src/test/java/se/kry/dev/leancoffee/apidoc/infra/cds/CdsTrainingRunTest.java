@@ -0,0 +1,26 @@
+package se.kry.dev.leancoffee.apidoc.infra.cds;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CdsTrainingRunTest {
+
+  @Autowired
+  private SecurityProperties security;
+
+  @LocalServerPort
+  private int port;
+
+  @Test
+  void serve_training_requests() throws Exception {
+    assertThat(CdsTrainingRun.warmUp(port, security.getUser()))
+        .hasSameSizeAs(CdsTrainingRun.PATHS)
+        .containsOnly(200);
+  }
+}
@@ -0,0 +1,43 @@
+package se.kry.dev.leancoffee.apidoc.infra.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import se.kry.dev.leancoffee.apidoc.domain.EventChange;
+import se.kry.dev.leancoffee.apidoc.domain.EventChangeMessage;
+
+class FileEventChangeSinkTest {
+
+  @TempDir
+  private Path directory;
+
+  @Test
+  void append_messages_as_lines() throws Exception {
+    var path = directory.resolve("changes.ndjson");
+    var sink = new FileEventChangeSink(path, new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+    var createdAt = Instant.parse("2001-01-01T00:00:00Z");
+    var id = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+
+    sink.publish(List.of(new EventChangeMessage(1, createdAt, EventChange.deleted(id))));
+    sink.publish(List.of(new EventChangeMessage(2, createdAt, EventChange.deleted(id))));
+
+    assertThat(Files.readAllLines(path)).containsExactly(
+        """
+            {"sequence":1,"createdAt":"2001-01-01T00:00:00Z",\
+            "change":{"type":"DELETED","id":"38a14a82-d5a2-4210-9d61-cc3577bfa5df"}}""",
+        """
+            {"sequence":2,"createdAt":"2001-01-01T00:00:00Z",\
+            "change":{"type":"DELETED","id":"38a14a82-d5a2-4210-9d61-cc3577bfa5df"}}""");
+  }
+}
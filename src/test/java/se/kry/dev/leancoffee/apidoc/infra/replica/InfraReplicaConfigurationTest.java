@@ -0,0 +1,83 @@
+package se.kry.dev.leancoffee.apidoc.infra.replica;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.Optional;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import se.kry.dev.leancoffee.apidoc.domain.EventCreationRequest;
+import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
+import se.kry.dev.leancoffee.apidoc.services.EventService;
+
+// Copied to the replica on demand only, as if replication lagged behind
+@SpringBootTest(properties = "events.datasource.replica-copy-interval=PT1H")
+@AutoConfigureMockMvc
+@ActiveProfiles("replica")
+class InfraReplicaConfigurationTest {
+
+  private static final LocalDate DAY = LocalDate.of(2103, Month.JANUARY, 1);
+
+  @Autowired
+  private EventService eventService;
+
+  @Autowired
+  private H2ReplicaCopy replicaCopy;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  void read_only_transactions_read_the_replica() {
+    var event = eventService.createEvent(
+        new EventCreationRequest("Replicated event", DAY.atTime(LocalTime.of(9, 0)), DAY.atTime(LocalTime.of(10, 0))));
+
+    assertThat(eventService.getEventsAfter(Optional.empty(), 100).content())
+        .extracting(EventResponse::id)
+        .doesNotContain(event.id());
+    assertThat(eventService.getEvent(event.id())).contains(event);
+
+    replicaCopy.copy();
+
+    assertThat(eventService.getEventsAfter(Optional.empty(), 100).content())
+        .extracting(EventResponse::id)
+        .contains(event.id());
+  }
+
+  @Test
+  void clients_read_their_writes() throws Exception {
+    mockMvc.perform(post("/events")
+            .with(user("writer"))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"title": "Written event", "start": "2103-01-02T09:00:00", "end": "2103-01-02T10:00:00"}
+                """))
+        .andExpect(status().isCreated());
+
+    mockMvc.perform(get("/events?size=100").with(user("writer")))
+        .andExpect(status().isOk())
+        .andExpect(content().string(Matchers.containsString("Written event")));
+    mockMvc.perform(get("/events?size=100").with(user("reader")))
+        .andExpect(status().isOk())
+        .andExpect(content().string(Matchers.not(Matchers.containsString("Written event"))));
+
+    replicaCopy.copy();
+
+    mockMvc.perform(get("/events?size=100").with(user("reader")))
+        .andExpect(status().isOk())
+        .andExpect(content().string(Matchers.containsString("Written event")));
+  }
+}
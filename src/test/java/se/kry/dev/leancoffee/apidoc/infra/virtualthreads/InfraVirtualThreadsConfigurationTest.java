@@ -0,0 +1,101 @@
+package se.kry.dev.leancoffee.apidoc.infra.virtualthreads;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("virtual-threads")
+@EnabledForJreRange(min = JRE.JAVA_21)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class InfraVirtualThreadsConfigurationTest {
+
+  // Pinning events are flushed to the stream about once a second
+  private static final Duration TIMEOUT_PINNING_RECORDED = Duration.ofSeconds(5);
+
+  @Autowired
+  private AsyncTaskExecutor applicationTaskExecutor;
+
+  @Autowired
+  private ServletWebServerApplicationContext context;
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @Autowired
+  private SecurityProperties security;
+
+  @Autowired
+  private MeterRegistry registry;
+
+  @Test
+  void run_tasks_on_virtual_threads() throws Exception {
+    var thread = applicationTaskExecutor.submit(() -> Thread.currentThread().toString()).get();
+
+    assertThat(thread).startsWith("VirtualThread");
+  }
+
+  @Test
+  void run_requests_on_virtual_threads() {
+    var webServer = (TomcatWebServer) context.getWebServer();
+
+    assertThat(webServer.getTomcat().getConnector().getProtocolHandler().getExecutor())
+        .isSameAs(applicationTaskExecutor);
+  }
+
+  // Runs before the deliberate pinning below, whose event could otherwise be counted here
+  @Test
+  @Order(1)
+  void serve_requests_without_pinning() throws Exception {
+    var user = security.getUser();
+    var client = restTemplate.withBasicAuth(user.getName(), user.getPassword());
+    for (var path : List.of("/events", "/events/scroll", "/events?from=2000-01-01T00:00:00&to=2100-01-01T00:00:00",
+        "/events/conflicts?start=2000-01-01T00:00:00&end=2100-01-01T00:00:00", "/events/search?q=coffee",
+        "/actuator/health")) {
+      assertThat(client.getForEntity(path, String.class).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    Thread.sleep(TIMEOUT_PINNING_RECORDED.toMillis());
+    assertThat(pinned()).isZero();
+  }
+
+  @Test
+  @Order(2)
+  void record_pinned_virtual_threads() throws Exception {
+    var lock = new Object();
+    applicationTaskExecutor.submit(() -> {
+      synchronized (lock) {
+        Thread.sleep(200);
+      }
+      return null;
+    }).get();
+
+    var deadline = Instant.now().plus(TIMEOUT_PINNING_RECORDED);
+    while (pinned() == 0 && Instant.now().isBefore(deadline)) {
+      Thread.sleep(100);
+    }
+    assertThat(pinned()).isEqualTo(1);
+  }
+
+  private long pinned() {
+    return registry.get(VirtualThreadPinning.METRIC_PINNED).timer().count();
+  }
+}
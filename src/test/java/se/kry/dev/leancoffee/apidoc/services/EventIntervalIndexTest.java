@@ -0,0 +1,127 @@
+package se.kry.dev.leancoffee.apidoc.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import se.kry.dev.leancoffee.apidoc.data.EventRepository;
+import se.kry.dev.leancoffee.apidoc.domain.EventChange;
+import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
+
+class EventIntervalIndexTest {
+
+  private static final LocalDateTime START = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+  private final EventRepository repository = mock(EventRepository.class);
+
+  private final EventIntervalIndex index = new EventIntervalIndex(repository, mock(PlatformTransactionManager.class));
+
+  @Test
+  void overlapping_events_by_start() {
+    var morning = created(0, 12);
+    var afternoon = created(12, 18);
+    var day = created(0, 24);
+    created(24, 36);
+
+    assertThat(index.overlapping(START.plusHours(11), START.plusHours(13), Optional.empty(), 10))
+        .containsExactlyInAnyOrder(morning.id(), day.id(), afternoon.id())
+        .endsWith(afternoon.id());
+    assertThat(index.overlapping(START.plusHours(12), START.plusHours(13), Optional.empty(), 10))
+        .containsExactlyInAnyOrder(day.id(), afternoon.id());
+    assertThat(index.overlapping(START.plusHours(2), START.plusHours(3), Optional.of(day.id()), 10))
+        .containsExactly(morning.id());
+    assertThat(index.overlapping(START.plusHours(36), START.plusHours(48), Optional.empty(), 10)).isEmpty();
+    assertThat(index.overlapping(START.minusHours(1), START.plusHours(48), Optional.empty(), 2)).hasSize(2);
+  }
+
+  @Test
+  void follow_updates_and_deletions() {
+    var event = created(0, 12);
+    var other = created(0, 12);
+
+    index.onChange(EventChange.updated(new EventResponse(event.id(), event.title(), START.plusHours(24),
+        START.plusHours(36), event.version() + 1)));
+    index.onChange(EventChange.deleted(other.id()));
+
+    assertThat(index.overlapping(START, START.plusHours(12), Optional.empty(), 10)).isEmpty();
+    assertThat(index.overlapping(START.plusHours(30), START.plusHours(31), Optional.empty(), 10))
+        .containsExactly(event.id());
+  }
+
+  @Test
+  void match_a_full_scan_after_random_changes() {
+    var random = new Random(42);
+    var events = new HashMap<UUID, EventResponse>();
+    for (var i = 0; i < 5000; i++) {
+      if (events.isEmpty() || random.nextInt(3) > 0) {
+        var start = random.nextInt(1000);
+        var event = created(start, start + random.nextInt(200) + 1);
+        events.put(event.id(), event);
+      } else {
+        var removed = new ArrayList<>(events.keySet()).get(random.nextInt(events.size()));
+        index.onChange(EventChange.deleted(events.remove(removed)));
+      }
+    }
+
+    for (var i = 0; i < 100; i++) {
+      var from = START.plusHours(random.nextInt(1000));
+      var to = from.plusHours(random.nextInt(50) + 1);
+      var expected = events.values().stream()
+          .filter(event -> event.start().isBefore(to) && event.end().isAfter(from))
+          .sorted(Comparator.comparing(EventResponse::start).thenComparing(EventResponse::id))
+          .map(EventResponse::id)
+          .toList();
+      assertThat(index.overlapping(from, to, Optional.empty(), Integer.MAX_VALUE)).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void rebuild_from_repository() {
+    var stale = created(0, 12);
+    var events = IntStream.range(0, 100).mapToObj(i -> event(i, i + 2)).toList();
+    when(repository.streamResponsesBy()).thenReturn(events.stream());
+
+    index.rebuild();
+
+    assertThat(index.overlapping(START, START.plusHours(1), Optional.empty(), 10))
+        .containsExactly(events.get(0).id())
+        .doesNotContain(stale.id());
+    assertThat(index.overlapping(START.plusHours(50), START.plusHours(52), Optional.empty(), 10))
+        .containsExactlyInAnyOrder(events.get(49).id(), events.get(50).id(), events.get(51).id());
+  }
+
+  @Test
+  void rebuild_from_empty_repository() {
+    created(0, 12);
+    when(repository.streamResponsesBy()).thenReturn(Stream.empty());
+
+    index.rebuild();
+
+    assertThat(index.overlapping(START, START.plusHours(12), Optional.empty(), 10)).isEmpty();
+  }
+
+  private EventResponse created(int startHour, int endHour) {
+    var event = event(startHour, endHour);
+    index.onChange(EventChange.created(event));
+    return event;
+  }
+
+  private static EventResponse event(int startHour, int endHour) {
+    return new EventResponse(UUID.randomUUID(), "Some event", START.plusHours(startHour),
+        START.plusHours(endHour), 0);
+  }
+}
@@ -0,0 +1,111 @@
+package se.kry.dev.leancoffee.apidoc.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import se.kry.dev.leancoffee.apidoc.data.EventOutboxRepository;
+import se.kry.dev.leancoffee.apidoc.domain.EventChange;
+import se.kry.dev.leancoffee.apidoc.domain.EventChangeMessage;
+import se.kry.dev.leancoffee.apidoc.domain.EventCreationRequest;
+import se.kry.dev.leancoffee.apidoc.domain.EventRecurrence;
+import se.kry.dev.leancoffee.apidoc.domain.EventUpdateRequest;
+import se.kry.dev.leancoffee.apidoc.infra.outbox.InMemoryEventChangeSink;
+
+@SpringBootTest
+class EventOutboxTest {
+
+  @Autowired
+  private EventService service;
+
+  @Autowired
+  private EventOutbox outbox;
+
+  @Autowired
+  private EventOutboxRepository repository;
+
+  @Autowired
+  private InMemoryEventChangeSink sink;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Test
+  void relay_changes_in_order() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var event = service.createEvent(new EventCreationRequest("Some event", start, start.plusHours(12)));
+    var eventUpdateRequest = new EventUpdateRequest(Optional.of("Some other event"), Optional.empty(), Optional.empty());
+    var updated = service.updateEvent(event.id(), eventUpdateRequest).orElseThrow();
+    assertThatExceptionOfType(OptimisticLockingFailureException.class).isThrownBy(() ->
+        service.updateEvent(event.id(), eventUpdateRequest, event.version()));
+    service.deleteEvent(event.id());
+
+    outbox.relay();
+
+    assertThat(repository.count()).isZero();
+    var messages = sink.messages().stream()
+        .filter(message -> message.change().id().equals(event.id()))
+        .toList();
+    assertThat(messages).extracting(EventChangeMessage::change).containsExactly(
+        EventChange.created(event),
+        EventChange.updated(updated),
+        EventChange.deleted(updated));
+    assertThat(messages).extracting(EventChangeMessage::sequence).isSorted();
+    assertThat(meterRegistry.get(EventOutbox.METRIC_PUBLISHED).counter().count()).isGreaterThanOrEqualTo(3);
+  }
+
+  @Test
+  void relay_batch_deletions_without_event() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var event = service.createEvent(new EventCreationRequest("Some event", start, start.plusHours(12)));
+    service.deleteEvents(List.of(event.id(), UUID.randomUUID()));
+
+    outbox.relay();
+
+    assertThat(sink.messages()).extracting(EventChangeMessage::change).contains(EventChange.deleted(event.id()));
+  }
+
+  @Test
+  void relay_imported_events() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    service.importEvents(List.of(
+        new EventCreationRequest("Imported outbox event", start, start.plusHours(1)),
+        new EventCreationRequest("Other imported outbox event", start, start.plusHours(2))));
+
+    outbox.relay();
+
+    assertThat(sink.messages())
+        .extracting(EventChangeMessage::change)
+        .filteredOn(change -> change.type() == EventChange.Type.CREATED)
+        .extracting(change -> change.event().title())
+        .contains("Imported outbox event", "Other imported outbox event");
+  }
+
+  @Test
+  void relay_series_with_their_recurrence() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.NOON);
+    var weekly = new EventCreationRequest("Lean coffee", start, start.plusHours(1));
+    weekly.setRecurrence(new EventRecurrence(EventRecurrence.Frequency.WEEKLY, 2, start.plusYears(1), 10));
+    var series = service.createEvent(weekly);
+    var updated = service.updateEvent(series.id(),
+        new EventUpdateRequest(Optional.of("Lean tea"), Optional.empty(), Optional.empty())).orElseThrow();
+
+    outbox.relay();
+
+    assertThat(sink.messages())
+        .extracting(EventChangeMessage::change)
+        .filteredOn(change -> change.id().equals(series.id()))
+        .containsExactly(EventChange.created(series), EventChange.updated(updated))
+        .allSatisfy(change -> assertThat(change.event().recurrence()).isEqualTo(weekly.getRecurrence()));
+  }
+}
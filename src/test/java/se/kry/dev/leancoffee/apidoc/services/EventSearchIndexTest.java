@@ -0,0 +1,97 @@
+package se.kry.dev.leancoffee.apidoc.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import se.kry.dev.leancoffee.apidoc.data.EventRepository;
+import se.kry.dev.leancoffee.apidoc.domain.EventChange;
+import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
+
+class EventSearchIndexTest {
+
+  private final EventRepository repository = mock(EventRepository.class);
+
+  private final EventSearchIndex index = new EventSearchIndex(repository, mock(PlatformTransactionManager.class));
+
+  @Test
+  void search_tokens_and_prefixes() {
+    var planning = created("Sprint planning");
+    var retro = created("Sprint retrospective");
+    var review = created("Design review: Sprint 12");
+    var sprints = created("Sprints");
+    created("Lunch");
+
+    assertThat(index.search("sprint", 10)).containsExactly(planning.id(), retro.id(), review.id(), sprints.id());
+    assertThat(index.search("spr re", 10)).containsExactly(retro.id(), review.id());
+    assertThat(index.search("sprint review", 10)).containsExactly(review.id());
+    assertThat(index.search("sprint", 1)).containsExactly(planning.id());
+    assertThat(index.search("  ", 10)).isEmpty();
+    assertThat(index.search("dinner", 10)).isEmpty();
+  }
+
+  @Test
+  void search_ignores_case_and_accents() {
+    var event = created("Café Crème");
+
+    assertThat(index.search("CAFE", 10)).containsExactly(event.id());
+    assertThat(index.search("creme", 10)).containsExactly(event.id());
+  }
+
+  @Test
+  void follow_updates_and_deletions() {
+    var event = created("Sprint planning");
+    var other = created("Sprint retrospective");
+
+    index.onChange(EventChange.updated(withTitle(event, "Backlog grooming")));
+    index.onChange(EventChange.deleted(other.id()));
+
+    assertThat(index.search("sprint", 10)).isEmpty();
+    assertThat(index.search("backlog", 10)).containsExactly(event.id());
+  }
+
+  @Test
+  void compact_after_many_deletions() {
+    var events = IntStream.range(0, 3000).mapToObj(i -> created("Event " + i)).toList();
+    events.subList(0, 2900).forEach(event -> index.onChange(EventChange.deleted(event)));
+
+    assertThat(index.search("event", 1000)).hasSize(100).containsExactlyElementsOf(
+        events.subList(2900, 3000).stream().map(EventResponse::id).toList());
+    assertThat(index.search("2999", 10)).containsExactly(events.get(2999).id());
+  }
+
+  @Test
+  void rebuild_from_repository() {
+    var stale = created("Stale event");
+    var event = event("Rebuilt event");
+    when(repository.streamResponsesBy()).thenReturn(Stream.of(event));
+
+    index.rebuild();
+
+    assertThat(index.search("event", 10)).containsExactly(event.id());
+    assertThat(index.search("stale", 10)).doesNotContain(stale.id());
+  }
+
+  private EventResponse created(String title) {
+    var event = event(title);
+    index.onChange(EventChange.created(event));
+    return event;
+  }
+
+  private static EventResponse event(String title) {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    return new EventResponse(UUID.randomUUID(), title, start, start.plusHours(1), 0);
+  }
+
+  private static EventResponse withTitle(EventResponse event, String title) {
+    return new EventResponse(event.id(), title, event.start(), event.end(), event.version() + 1);
+  }
+}
@@ -0,0 +1,431 @@
+package se.kry.dev.leancoffee.apidoc.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import se.kry.dev.leancoffee.apidoc.data.Event;
+import se.kry.dev.leancoffee.apidoc.data.EventRepository;
+import se.kry.dev.leancoffee.apidoc.domain.EventBatchResult;
+import se.kry.dev.leancoffee.apidoc.domain.EventBatchUpdate;
+import se.kry.dev.leancoffee.apidoc.domain.EventChange;
+import se.kry.dev.leancoffee.apidoc.domain.EventCreationRequest;
+import se.kry.dev.leancoffee.apidoc.domain.EventRecurrence;
+import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
+import se.kry.dev.leancoffee.apidoc.domain.EventUpdateRequest;
+
+@SpringBootTest
+@RecordApplicationEvents
+class EventServiceTest {
+
+  @Autowired
+  private EventService service;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private ApplicationEvents applicationEvents;
+
+  @SpyBean
+  private EventRepository repository;
+
+  @Test
+  void get_event_from_cache() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var event = service.createEvent(new EventCreationRequest("Some event", start, start.plusHours(12)));
+    clearInvocations(repository);
+
+    assertThat(service.getEvent(event.id())).hasValue(event);
+    assertThat(service.getEvent(event.id())).hasValue(event);
+
+    verify(repository, never()).findById(any());
+  }
+
+  @Test
+  void update_event_refreshes_cache() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var event = service.createEvent(new EventCreationRequest("Some event", start, start.plusHours(12)));
+
+    var updated = service.updateEvent(event.id(),
+        new EventUpdateRequest(Optional.of("Some other event"), Optional.empty(), Optional.empty()));
+    clearInvocations(repository);
+
+    assertThat(updated).isPresent();
+    assertThat(service.getEvent(event.id())).isEqualTo(updated);
+
+    verify(repository, never()).findById(any());
+  }
+
+  @Test
+  void update_event_without_reading_it_first() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var event = service.createEvent(new EventCreationRequest("Some event", start, start.plusHours(12)));
+    clearInvocations(repository);
+
+    var updated = service.updateEvent(event.id(),
+        new EventUpdateRequest(Optional.empty(), Optional.of(start.plusHours(1)), Optional.of(start.plusHours(13))));
+
+    assertThat(updated).hasValue(
+        new EventResponse(event.id(), "Some event", start.plusHours(1), start.plusHours(13), event.version() + 1));
+    var inOrder = inOrder(repository);
+    inOrder.verify(repository).updatePartially(event.id(), null, start.plusHours(1), start.plusHours(13));
+    inOrder.verify(repository).findById(event.id());
+    assertThat(service.updateEvent(UUID.randomUUID(),
+        new EventUpdateRequest(Optional.of("Missing event"), Optional.empty(), Optional.empty()))).isEmpty();
+  }
+
+  @Test
+  void update_event_with_expected_version() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var event = service.createEvent(new EventCreationRequest("Some event", start, start.plusHours(12)));
+    var eventUpdateRequest = new EventUpdateRequest(Optional.of("Some other event"), Optional.empty(), Optional.empty());
+
+    var updated = service.updateEvent(event.id(), eventUpdateRequest, event.version());
+
+    assertThat(updated).hasValueSatisfying(e -> assertThat(e.version()).isEqualTo(event.version() + 1));
+    assertThatExceptionOfType(OptimisticLockingFailureException.class).isThrownBy(() ->
+        service.updateEvent(event.id(), eventUpdateRequest, event.version()));
+    assertThatExceptionOfType(OptimisticLockingFailureException.class).isThrownBy(() ->
+        service.deleteEvent(event.id(), event.version()));
+    assertThatExceptionOfType(OptimisticLockingFailureException.class).isThrownBy(() ->
+        service.deleteEvent(UUID.randomUUID(), event.version()));
+    assertThat(service.getEvent(event.id())).isEqualTo(updated);
+  }
+
+  @Test
+  void create_update_and_delete_events() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var eventCreationRequests = IntStream.range(0, 1200)
+        .mapToObj(i -> new EventCreationRequest("Event" + i, start.plusDays(i), start.plusDays(i).plusHours(12)))
+        .toList();
+
+    var created = service.createEvents(eventCreationRequests);
+
+    assertThat(created).hasSize(1200).allSatisfy(result -> {
+      assertThat(result.status()).isEqualTo(EventBatchResult.Status.CREATED);
+      assertThat(result.event().title()).isEqualTo("Event" + result.index());
+    });
+
+    var first = created.get(0).event();
+    var second = created.get(1).event();
+    var eventUpdateRequest = new EventUpdateRequest(Optional.of("Some other event"), Optional.empty(), Optional.empty());
+
+    var updated = service.updateEvents(List.of(
+        new EventBatchUpdate(first.id(), Optional.of(first.version()), eventUpdateRequest),
+        new EventBatchUpdate(second.id(), Optional.of(second.version() + 1), eventUpdateRequest),
+        new EventBatchUpdate(UUID.randomUUID(), Optional.empty(), eventUpdateRequest)));
+
+    assertThat(updated).extracting(EventBatchResult::status).containsExactly(
+        EventBatchResult.Status.UPDATED, EventBatchResult.Status.CONFLICT, EventBatchResult.Status.NOT_FOUND);
+    assertThat(updated.get(0).event().version()).isEqualTo(first.version() + 1);
+    assertThat(service.getEvent(first.id())).hasValue(updated.get(0).event());
+
+    var deleted = service.deleteEvents(List.of(first.id(), UUID.randomUUID()));
+
+    assertThat(deleted).extracting(EventBatchResult::status).containsExactly(
+        EventBatchResult.Status.DELETED, EventBatchResult.Status.NOT_FOUND);
+    assertThat(service.getEvent(first.id())).isEmpty();
+    assertThat(service.getEvent(second.id())).isPresent();
+  }
+
+  @Test
+  void import_events() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+    var imported = service.importEvents(List.of(
+        new EventCreationRequest("Imported event", start, start.plusHours(1)),
+        new EventCreationRequest("Other imported event", start, start.plusHours(2))));
+
+    assertThat(imported).isEqualTo(2);
+    var titles = new ArrayList<String>();
+    service.exportEvents(event -> titles.add(event.title()));
+    assertThat(titles).contains("Imported event", "Other imported event");
+  }
+
+  @Test
+  void export_events() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var created = service.createEvents(IntStream.range(0, 3)
+        .mapToObj(i -> new EventCreationRequest("Exported event " + i, start.plusDays(i), start.plusDays(i).plusHours(1)))
+        .toList());
+
+    var exported = new ArrayList<EventResponse>();
+    service.exportEvents(exported::add);
+
+    assertThat(exported).containsAll(created.stream().map(EventBatchResult::event).toList());
+    assertThat(exported).isSortedAccordingTo(Comparator.comparing(EventResponse::start));
+  }
+
+  @Test
+  void get_events_without_count() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    service.createEvents(IntStream.range(0, 3)
+        .mapToObj(i -> new EventCreationRequest("Sliced event " + i, start, start.plusHours(1)))
+        .toList());
+    clearInvocations(repository);
+
+    var slice = service.getEventsSlice(PageRequest.of(0, 2));
+
+    assertThat(slice.getContent()).hasSize(2);
+    assertThat(slice.hasNext()).isTrue();
+    verify(repository, never()).count();
+  }
+
+  @Test
+  void get_events_with_estimated_count() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    service.refreshEstimatedCount();
+    var before = service.getEventsEstimated(PageRequest.of(0, 1)).getTotalElements();
+    service.createEvents(IntStream.range(0, 3)
+        .mapToObj(i -> new EventCreationRequest("Estimated event " + i, start, start.plusHours(1)))
+        .toList());
+    clearInvocations(repository);
+
+    var stale = service.getEventsEstimated(PageRequest.of(0, 1));
+    verify(repository, never()).count();
+    assertThat(stale.getTotalElements()).isEqualTo(Math.max(before, 2));
+    assertThat(stale.hasNext()).isTrue();
+
+    service.refreshEstimatedCount();
+    assertThat(service.getEventsEstimated(PageRequest.of(0, 1)).getTotalElements()).isEqualTo(before + 3);
+  }
+
+  @Test
+  void service_and_repository_calls_are_timed() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+    service.createEvent(new EventCreationRequest("Timed event", start, start.plusHours(12)));
+    service.getEvents(PageRequest.ofSize(20));
+
+    assertThat(meterRegistry.get(EventService.METRIC_SERVICE).tag("operation", "create").timer().count()).isPositive();
+    assertThat(meterRegistry.get(EventService.METRIC_SERVICE).tag("operation", "list").timer().count()).isPositive();
+    assertThat(meterRegistry.get("spring.data.repository.invocations").tag("method", "findResponsePageBy").timer().count())
+        .isPositive();
+  }
+
+  @Test
+  void changes_are_published() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+    var event = service.createEvent(new EventCreationRequest("Some event", start, start.plusHours(12)));
+    var updated = service.updateEvent(event.id(),
+        new EventUpdateRequest(Optional.of("Some other event"), Optional.empty(), Optional.empty())).orElseThrow();
+    service.deleteEvent(event.id());
+    service.deleteEvent(event.id());
+    service.deleteEvents(List.of(UUID.randomUUID()));
+
+    assertThat(applicationEvents.stream(EventChange.class)).containsExactly(
+        EventChange.created(event),
+        EventChange.updated(updated),
+        EventChange.deleted(updated));
+  }
+
+  @Test
+  void search_events() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var event = service.createEvent(new EventCreationRequest("Quarterly kickoff", start, start.plusHours(12)));
+    var other = service.createEvent(new EventCreationRequest("Quarterly kickoff dinner", start, start.plusHours(14)));
+
+    assertThat(service.searchEvents("quarterly kick", 20)).containsExactly(event, other);
+
+    service.deleteEvent(event.id());
+    assertThat(service.searchEvents("quarterly kick", 20)).containsExactly(other);
+  }
+
+  @Test
+  void reject_overlapping_events() {
+    var start = LocalDate.of(2101, Month.MARCH, 1).atTime(LocalTime.NOON);
+    var event = service.createEvent(new EventCreationRequest("Some event", start, start.plusHours(2)), true);
+    var other = service.createEvent(new EventCreationRequest("Some other event", start.plusHours(2),
+        start.plusHours(3)), true);
+
+    assertThat(service.getConflicts(start.plusHours(1), start.plusHours(4), Optional.empty(), 20))
+        .containsExactly(event, other);
+    assertThat(service.getConflicts(start.plusHours(1), start.plusHours(4), Optional.of(event.id()), 20))
+        .containsExactly(other);
+
+    assertThatExceptionOfType(EventOverlapException.class)
+        .isThrownBy(() -> service.createEvent(
+            new EventCreationRequest("Overlapping event", start.plusHours(1), start.plusHours(5)), true))
+        .satisfies(e -> assertThat(e.getConflicts()).containsExactly(event.id(), other.id()));
+    assertThatExceptionOfType(EventOverlapException.class)
+        .isThrownBy(() -> service.updateEvent(other.id(),
+            new EventUpdateRequest(Optional.empty(), Optional.of(start.plusHours(1)), Optional.empty()), true));
+
+    // The rejected update was rolled back
+    assertThat(service.getConflicts(start, start.plusHours(4), Optional.empty(), 20)).containsExactly(event, other);
+    assertThat(service.createEvent(new EventCreationRequest("Overlapping event", start.plusHours(1),
+        start.plusHours(5)), false)).isNotNull();
+  }
+
+  @Test
+  void reject_events_overlapping_later_occurrences() {
+    var start = LocalDate.of(2101, Month.APRIL, 1).atTime(LocalTime.NOON);
+    var weekly = new EventCreationRequest("Lean coffee", start, start.plusHours(1));
+    weekly.setRecurrence(new EventRecurrence(EventRecurrence.Frequency.WEEKLY, 1, null, 4));
+    var series = service.createEvent(weekly);
+
+    assertThat(service.getConflicts(start.plusWeeks(2), start.plusWeeks(2).plusHours(2), Optional.empty(), 20))
+        .containsExactly(series);
+    assertThat(service.getConflicts(start.plusWeeks(2), start.plusWeeks(2).plusHours(2), Optional.of(series.id()), 20))
+        .isEmpty();
+    assertThatExceptionOfType(EventOverlapException.class)
+        .isThrownBy(() -> service.createEvent(new EventCreationRequest("Overlapping event",
+            start.plusWeeks(2).minusMinutes(30), start.plusWeeks(2).plusMinutes(30)), true))
+        .satisfies(e -> assertThat(e.getConflicts()).containsExactly(series.id()));
+    assertThat(service.createEvent(new EventCreationRequest("Event after the series",
+        start.plusWeeks(4), start.plusWeeks(4).plusHours(1)), true)).isNotNull();
+  }
+
+  @Test
+  void reject_series_overlapping_on_later_occurrences() {
+    var start = LocalDate.of(2101, Month.MAY, 1).atTime(LocalTime.NOON);
+    var event = service.createEvent(new EventCreationRequest("Some event", start.plusDays(3),
+        start.plusDays(3).plusHours(1)), true);
+    var daily = new EventCreationRequest("Daily standup", start, start.plusMinutes(30));
+    daily.setRecurrence(new EventRecurrence(EventRecurrence.Frequency.DAILY, 1, null, 5));
+
+    assertThatExceptionOfType(EventOverlapException.class)
+        .isThrownBy(() -> service.createEvent(daily, true))
+        .satisfies(e -> assertThat(e.getConflicts()).containsExactly(event.id()));
+
+    daily.setRecurrence(new EventRecurrence(EventRecurrence.Frequency.DAILY, 1, null, 3));
+    var series = service.createEvent(daily, true);
+    assertThatExceptionOfType(EventOverlapException.class)
+        .isThrownBy(() -> service.updateEvent(series.id(),
+            new EventUpdateRequest(Optional.empty(), Optional.of(start.plusDays(1)),
+                Optional.of(start.plusDays(1).plusMinutes(30))), true))
+        .satisfies(e -> assertThat(e.getConflicts()).containsExactly(event.id()));
+  }
+
+  @Test
+  void expand_recurring_events_in_range_reads() {
+    var start = LocalDate.of(2102, Month.JANUARY, 1).atTime(LocalTime.NOON);
+    var weekly = new EventCreationRequest("Lean coffee", start, start.plusHours(1));
+    weekly.setRecurrence(new EventRecurrence(EventRecurrence.Frequency.WEEKLY, 1, null, 520));
+    var rows = repository.count();
+    var series = service.createEvent(weekly);
+    var single = service.createEvent(new EventCreationRequest("Some event", start.plusDays(8), start.plusDays(9)));
+
+    assertThat(repository.count()).isEqualTo(rows + 2);
+
+    var month = start.plusYears(5).withDayOfMonth(1);
+    var window = service.getEventsBetween(month, month.plusMonths(1), Optional.empty(), 20);
+    assertThat(window.content()).hasSizeBetween(4, 5).allSatisfy(occurrence -> {
+      assertThat(occurrence.id()).isEqualTo(series.id());
+      assertThat(occurrence.start().getDayOfWeek()).isEqualTo(start.getDayOfWeek());
+      assertThat(occurrence.end()).isEqualTo(occurrence.start().plusHours(1));
+      assertThat(occurrence.recurrence()).isEqualTo(series.recurrence());
+    });
+
+    // Paging through the first weeks mixes occurrences and single events in order
+    var first = service.getEventsBetween(start, start.plusDays(15), Optional.empty(), 2);
+    assertThat(first.content()).extracting(EventResponse::start).containsExactly(start, start.plusWeeks(1));
+    var second = service.getEventsBetween(start, start.plusDays(15), first.next(), 2);
+    assertThat(second.content()).extracting(EventResponse::id).containsExactly(single.id(), series.id());
+    assertThat(second.next()).isEmpty();
+
+    assertThat(service.getEventsBetween(start.plusYears(11), start.plusYears(12), Optional.empty(), 20).content())
+        .isEmpty();
+  }
+
+  @Test
+  void cache_occurrences_in_buckets() {
+    var start = LocalDate.of(1950, Month.MARCH, 1).atTime(LocalTime.NOON);
+    var weekly = new EventCreationRequest("Lean coffee", start, start.plusHours(1));
+    weekly.setRecurrence(new EventRecurrence(EventRecurrence.Frequency.WEEKLY, 1, null, 520));
+    var series = service.createEvent(weekly);
+    @SuppressWarnings("unchecked")
+    var cache = (com.github.benmanes.caffeine.cache.Cache<Object, Object>)
+        cacheManager.getCache(EventOccurrences.CACHE_OCCURRENCES).getNativeCache();
+
+    service.getEventsBetween(start, start.plusWeeks(3), Optional.empty(), 20);
+    service.getEventsBetween(start.plusDays(1), start.plusWeeks(5), Optional.empty(), 20);
+    service.getEventsBetween(start.plusHours(2), start.plusWeeks(2).plusHours(3), Optional.empty(), 20);
+
+    // Different windows read the same bucket, which holds its starts whatever the window
+    assertThat(cache.asMap()).hasEntrySatisfying(
+        cache.asMap().keySet().stream().filter(key -> key.toString().contains(series.id().toString())).findFirst()
+            .orElseThrow(),
+        starts -> assertThat((List<?>) starts).hasSize(EventOccurrences.SIZE_BUCKET));
+    assertThat(cache.asMap().keySet()).filteredOn(key -> key.toString().contains(series.id().toString())).hasSize(1);
+    assertThat(cache.policy().eviction()).hasValueSatisfying(eviction -> assertThat(eviction.isWeighted()).isTrue());
+  }
+
+  @Test
+  void list_reads_carry_recurrences() {
+    var start = LocalDate.of(1901, Month.JANUARY, 1).atTime(LocalTime.NOON);
+    var monthly = new EventCreationRequest("Monthly review", start, start.plusHours(1));
+    monthly.setRecurrence(new EventRecurrence(EventRecurrence.Frequency.MONTHLY, 2, start.plusYears(1), null));
+    var series = service.createEvent(monthly);
+    var single = service.createEvent(new EventCreationRequest("Some event", start.plusHours(2), start.plusHours(3)));
+
+    assertThat(service.getEventsAfter(Optional.empty(), 2).content()).containsExactly(series, single);
+    assertThat(service.getEvents(PageRequest.of(0, 1, Sort.by("start")))).containsExactly(series);
+    assertThat(service.getEventsSlice(PageRequest.of(0, 1, Sort.by("start")))).containsExactly(series);
+    var exported = new ArrayList<EventResponse>();
+    service.exportEvents(exported::add);
+    assertThat(exported).contains(series, single);
+  }
+
+  @Test
+  void skip_ended_series_in_range_reads() {
+    var start = LocalDate.of(2102, Month.JUNE, 1).atTime(LocalTime.NOON);
+    var daily = new EventCreationRequest("Daily stand-up", start, start.plusMinutes(15));
+    daily.setRecurrence(new EventRecurrence(EventRecurrence.Frequency.DAILY, 1, null, 3));
+    var series = service.createEvent(daily);
+
+    assertThat(repository.findSeriesBetween(start.plusDays(2), start.plusDays(3)))
+        .extracting(Event::getId).contains(series.id());
+    assertThat(repository.findSeriesBetween(start.plusDays(2).plusMinutes(15), start.plusDays(4)))
+        .extracting(Event::getId).doesNotContain(series.id());
+
+    // Moving the series moves its end along
+    service.updateEvent(series.id(), new EventUpdateRequest(Optional.empty(), Optional.of(start.plusDays(1)),
+        Optional.of(start.plusDays(1).plusMinutes(15))));
+    assertThat(repository.findSeriesBetween(start.plusDays(2).plusMinutes(15), start.plusDays(4)))
+        .extracting(Event::getId).contains(series.id());
+    assertThat(service.getEventsBetween(start.plusDays(3), start.plusDays(4), Optional.empty(), 20).content())
+        .extracting(EventResponse::start).containsExactly(start.plusDays(3));
+  }
+
+  @Test
+  void delete_event_evicts_cache() {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var event = service.createEvent(new EventCreationRequest("Some event", start, start.plusHours(12)));
+
+    service.deleteEvent(event.id());
+
+    assertThat(cacheManager.getCache(EventService.CACHE_EVENTS).get(event.id())).isNull();
+    assertThat(service.getEvent(event.id())).isEmpty();
+    assertThat(cacheManager.getCache(EventService.CACHE_EVENTS).get(event.id())).isNull();
+  }
+}
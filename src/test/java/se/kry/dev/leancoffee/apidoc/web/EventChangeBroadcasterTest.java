@@ -0,0 +1,90 @@
+package se.kry.dev.leancoffee.apidoc.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import se.kry.dev.leancoffee.apidoc.domain.EventChange;
+import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
+
+class EventChangeBroadcasterTest {
+
+  private static final LocalDateTime START = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+  private final EventChangeBroadcaster broadcaster =
+      new EventChangeBroadcaster(8, 2, EventChangeBroadcaster.Overflow.DISCONNECT, new SimpleMeterRegistry());
+
+  @AfterEach
+  void shutdown() {
+    broadcaster.destroy();
+  }
+
+  @Test
+  void keep_streaming_to_others_while_a_subscriber_stalls() throws Exception {
+    var stalled = Stream.generate(StalledEmitter::new).limit(4).toList();
+    var other = new RecordingEmitter();
+    stalled.forEach(emitter -> broadcaster.subscribe(emitter, null, null));
+    broadcaster.subscribe(other, null, null);
+
+    // The buffers of the stalled subscribers fill up behind their blocked writes, they are then disconnected
+    for (var i = 0; i < 4; i++) {
+      broadcaster.broadcast(EventChange.deleted(UUID.randomUUID()));
+      assertThat(other.sent.poll(5, TimeUnit.SECONDS)).isNotNull();
+    }
+    assertThat(stalled).allSatisfy(emitter -> assertThat(emitter.completed.getCount()).isOne());
+
+    for (var emitter : stalled) {
+      emitter.released.countDown();
+      assertThat(emitter.completed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+    broadcaster.broadcast(EventChange.created(new EventResponse(UUID.randomUUID(), "Some event", START,
+        START.plusHours(1), 0)));
+    assertThat(other.sent.poll(5, TimeUnit.SECONDS)).isNotNull();
+  }
+
+  private static class RecordingEmitter extends SseEmitter {
+
+    final LinkedBlockingQueue<SseEventBuilder> sent = new LinkedBlockingQueue<>();
+
+    @Override
+    public void send(SseEventBuilder builder) {
+      sent.add(builder);
+    }
+  }
+
+  // A client that stopped reading, its first write blocks until released
+  private static class StalledEmitter extends SseEmitter {
+
+    final CountDownLatch released = new CountDownLatch(1);
+
+    final CountDownLatch completed = new CountDownLatch(1);
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+      try {
+        released.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException(e);
+      }
+    }
+
+    @Override
+    public void complete() {
+      completed.countDown();
+      super.complete();
+    }
+  }
+}
@@ -0,0 +1,159 @@
+package se.kry.dev.leancoffee.apidoc.web;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import se.kry.dev.leancoffee.apidoc.domain.EventBatchResult;
+import se.kry.dev.leancoffee.apidoc.domain.EventBatchUpdate;
+import se.kry.dev.leancoffee.apidoc.domain.EventCreationRequest;
+import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
+import se.kry.dev.leancoffee.apidoc.domain.EventUpdateRequest;
+import se.kry.dev.leancoffee.apidoc.infra.web.security.InfraWebSecurityConfiguration;
+import se.kry.dev.leancoffee.apidoc.services.EventService;
+
+@WebMvcTest(EventsBatchController.class)
+@Import({InfraWebSecurityConfiguration.class, EventRequestReader.class})
+@WithMockUser
+class EventsBatchControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @MockBean
+  private EventService service;
+
+  @Test
+  void create_events() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var end = start.plusHours(12);
+
+    when(service.createEvents(List.of(new EventCreationRequest("Some event", start, end))))
+        .thenReturn(List.of(EventBatchResult.of(0, EventBatchResult.Status.CREATED,
+            new EventResponse(uuid, "Some event", start, end, 0))));
+
+    var payload = objectMapper.createArrayNode();
+    payload.addObject()
+        .put("title", " ")
+        .put("start", "2001-01-01T00:00:00")
+        .put("end", "2001-01-01T12:00:00");
+    payload.addObject()
+        .put("title", "Some event")
+        .put("start", "2001-01-01T00:00:00")
+        .put("end", "2001-01-01T12:00:00");
+    payload.addObject()
+        .put("title", "Some event")
+        .put("start", "2001-01-01T00:00:00");
+
+    mockMvc.perform(post("/events/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payload.toString()))
+        .andExpect(status().isOk())
+        .andExpectAll(
+            jsonPath("$[0].index").value(0),
+            jsonPath("$[0].status").value("INVALID"),
+            jsonPath("$[0].errors[0]").value("title: must not be blank"),
+            jsonPath("$[1].index").value(1),
+            jsonPath("$[1].status").value("CREATED"),
+            jsonPath("$[1].event.id").value("38a14a82-d5a2-4210-9d61-cc3577bfa5df"),
+            jsonPath("$[1].errors").doesNotExist(),
+            jsonPath("$[2].index").value(2),
+            jsonPath("$[2].status").value("INVALID"),
+            jsonPath("$[2].errors").isArray()
+        );
+  }
+
+  @Test
+  void create_too_many_events() throws Exception {
+    var payload = objectMapper.createArrayNode();
+    for (var i = 0; i <= 10000; i++) {
+      payload.addObject();
+    }
+
+    mockMvc.perform(post("/events/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payload.toString()))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void update_events() throws Exception {
+    var uuid1 = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var uuid2 = UUID.fromString("8ebea9a7-e0ef-4a62-a729-aff26134f9d8");
+
+    when(service.updateEvents(anyList())).thenReturn(List.of(
+        EventBatchResult.of(0, EventBatchResult.Status.NOT_FOUND, null),
+        EventBatchResult.of(1, EventBatchResult.Status.CONFLICT, null)));
+
+    var payload = objectMapper.createArrayNode();
+    payload.addObject()
+        .put("id", "foobar");
+    payload.addObject()
+        .put("id", uuid1.toString())
+        .put("title", "Some other event");
+    payload.addObject()
+        .put("id", uuid2.toString())
+        .put("version", 3)
+        .put("title", "Some other event");
+
+    mockMvc.perform(patch("/events/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payload.toString()))
+        .andExpect(status().isOk())
+        .andExpectAll(
+            jsonPath("$[0].status").value("INVALID"),
+            jsonPath("$[0].errors[0]").value("id: must be a UUID"),
+            jsonPath("$[1].index").value(1),
+            jsonPath("$[1].status").value("NOT_FOUND"),
+            jsonPath("$[2].index").value(2),
+            jsonPath("$[2].status").value("CONFLICT")
+        );
+
+    var eventUpdateRequest = new EventUpdateRequest(Optional.of("Some other event"), Optional.empty(), Optional.empty());
+    verify(service).updateEvents(List.of(
+        new EventBatchUpdate(uuid1, Optional.empty(), eventUpdateRequest),
+        new EventBatchUpdate(uuid2, Optional.of(3L), eventUpdateRequest)));
+  }
+
+  @Test
+  void delete_events() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+
+    when(service.deleteEvents(List.of(uuid))).thenReturn(List.of(
+        EventBatchResult.of(0, EventBatchResult.Status.DELETED, null)));
+
+    mockMvc.perform(delete("/events/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[\"foobar\", \"38a14a82-d5a2-4210-9d61-cc3577bfa5df\"]"))
+        .andExpect(status().isOk())
+        .andExpectAll(
+            jsonPath("$[0].status").value("INVALID"),
+            jsonPath("$[1].index").value(1),
+            jsonPath("$[1].status").value("DELETED")
+        );
+  }
+}
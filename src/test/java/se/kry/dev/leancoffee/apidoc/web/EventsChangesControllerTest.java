@@ -0,0 +1,156 @@
+package se.kry.dev.leancoffee.apidoc.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import se.kry.dev.leancoffee.apidoc.domain.EventChange;
+import se.kry.dev.leancoffee.apidoc.domain.EventRecurrence;
+import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
+import se.kry.dev.leancoffee.apidoc.infra.web.security.InfraWebSecurityConfiguration;
+
+@WebMvcTest(EventsChangesController.class)
+@Import({InfraWebSecurityConfiguration.class, SimpleMeterRegistry.class,
+    EventsChangesControllerTest.ManualExecutorConfiguration.class})
+@WithMockUser
+class EventsChangesControllerTest {
+
+  private static final LocalDateTime START = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private EventChangeBroadcaster broadcaster;
+
+  @Autowired
+  private ManualExecutor executor;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Test
+  void stream_changes_in_window() throws Exception {
+    var result = mockMvc.perform(get("/events/changes?from=2001-01-01T00:00&to=2001-01-02T00:00"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    broadcaster.broadcast(EventChange.created(event("38a14a82-d5a2-4210-9d61-cc3577bfa5df", START)));
+    broadcaster.broadcast(EventChange.created(event("8ebea9a7-e0ef-4a62-a729-aff26134f9d8", START.plusDays(3))));
+    broadcaster.broadcast(EventChange.deleted(UUID.fromString("8ebea9a7-e0ef-4a62-a729-aff26134f9d8")));
+    executor.runAll();
+
+    assertThat(result.getResponse().getContentAsString()).isEqualTo("""
+        event:created
+        data:{"type":"CREATED","id":"38a14a82-d5a2-4210-9d61-cc3577bfa5df","event":{\
+        "id":"38a14a82-d5a2-4210-9d61-cc3577bfa5df","title":"Some event",\
+        "start":"2001-01-01T00:00:00","end":"2001-01-01T12:00:00","version":0}}
+
+        event:deleted
+        data:{"type":"DELETED","id":"8ebea9a7-e0ef-4a62-a729-aff26134f9d8"}
+
+        """);
+  }
+
+  @Test
+  void stream_changes_of_series_with_occurrences_in_window() throws Exception {
+    var result = mockMvc.perform(get("/events/changes?from=2002-06-03T00:00&to=2002-06-10T00:00"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    var weekly = new EventRecurrence(EventRecurrence.Frequency.WEEKLY, 1, null, null);
+    broadcaster.broadcast(EventChange.updated(series("38a14a82-d5a2-4210-9d61-cc3577bfa5df", START, weekly)));
+    broadcaster.broadcast(EventChange.updated(series("8ebea9a7-e0ef-4a62-a729-aff26134f9d8", START,
+        new EventRecurrence(EventRecurrence.Frequency.WEEKLY, 1, null, 3))));
+    broadcaster.broadcast(EventChange.updated(series("0b5d1e2c-5a0e-4c1b-9c4e-2f1d3b6a7c8d", START.plusYears(2),
+        weekly)));
+    executor.runAll();
+
+    assertThat(result.getResponse().getContentAsString())
+        .contains("38a14a82-d5a2-4210-9d61-cc3577bfa5df")
+        .doesNotContain("8ebea9a7-e0ef-4a62-a729-aff26134f9d8", "0b5d1e2c-5a0e-4c1b-9c4e-2f1d3b6a7c8d");
+  }
+
+  @Test
+  void disconnect_slow_subscriber() throws Exception {
+    var overflows = meterRegistry.counter(EventChangeBroadcaster.METRIC_OVERFLOWS, "overflow", "disconnect").count();
+    var result = mockMvc.perform(get("/events/changes"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    for (var i = 0; i < 3; i++) {
+      broadcaster.broadcast(EventChange.created(event(UUID.randomUUID().toString(), START.plusDays(i))));
+    }
+    executor.runAll();
+
+    assertThat(result.getResponse().getContentAsString()).containsOnlyOnce(START.plusDays(1).toString())
+        .doesNotContain(START.plusDays(2).toString());
+    assertThat(meterRegistry.counter(EventChangeBroadcaster.METRIC_OVERFLOWS, "overflow", "disconnect").count())
+        .isEqualTo(overflows + 1);
+    mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+  }
+
+  @Test
+  void stream_changes_in_empty_window() throws Exception {
+    mockMvc.perform(get("/events/changes?from=2001-01-02T00:00&to=2001-01-01T00:00"))
+        .andExpect(status().isBadRequest());
+  }
+
+  private static EventResponse event(String id, LocalDateTime start) {
+    return new EventResponse(UUID.fromString(id), "Some event", start, start.plusHours(12), 0);
+  }
+
+  private static EventResponse series(String id, LocalDateTime start, EventRecurrence recurrence) {
+    return new EventResponse(UUID.fromString(id), "Some series", start, start.plusHours(12), 0, recurrence);
+  }
+
+  static class ManualExecutor implements Executor {
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    @Override
+    public synchronized void execute(Runnable task) {
+      tasks.add(task);
+    }
+
+    synchronized void runAll() {
+      for (var task = tasks.poll(); task != null; task = tasks.poll()) {
+        task.run();
+      }
+    }
+  }
+
+  @TestConfiguration
+  static class ManualExecutorConfiguration {
+
+    @Bean
+    ManualExecutor manualExecutor() {
+      return new ManualExecutor();
+    }
+
+    @Bean
+    EventChangeBroadcaster eventChangeBroadcaster(ManualExecutor manualExecutor, MeterRegistry meterRegistry) {
+      return new EventChangeBroadcaster(manualExecutor, 2, EventChangeBroadcaster.Overflow.DISCONNECT, meterRegistry);
+    }
+  }
+}
@@ -1,20 +1,30 @@
 package se.kry.dev.leancoffee.apidoc.web;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.Month;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,16 +32,26 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import se.kry.dev.leancoffee.apidoc.domain.EventCreationRequest;
 import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
 import se.kry.dev.leancoffee.apidoc.domain.EventUpdateRequest;
+import se.kry.dev.leancoffee.apidoc.infra.web.hateoas.InfraWebHateoasConfiguration;
+import se.kry.dev.leancoffee.apidoc.infra.web.security.InfraWebSecurityConfiguration;
+import se.kry.dev.leancoffee.apidoc.services.EventOverlapException;
 import se.kry.dev.leancoffee.apidoc.services.EventService;
 
 @WebMvcTest(EventsController.class)
+@Import({InfraWebSecurityConfiguration.class, InfraWebHateoasConfiguration.class, EventLinks.class, EventMetrics.class,
+    SimpleMeterRegistry.class})
 @WithMockUser
 class EventsControllerTest {
 
@@ -41,17 +61,25 @@ class EventsControllerTest {
   @Autowired
   private ObjectMapper objectMapper;
 
+  @Autowired
+  private MeterRegistry meterRegistry;
+
   @MockBean
   private EventService service;
 
+  private final ObjectMapper cborMapper = CBORMapper.builder()
+      .findAndAddModules()
+      .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+      .build();
+
   @Test
   void create_event() throws Exception {
     var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
     var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
     var end = start.plusHours(12);
 
-    when(service.createEvent(any())).thenReturn(
-        new EventResponse(uuid, "Some event", start, end));
+    when(service.createEvent(any(), eq(false))).thenReturn(
+        new EventResponse(uuid, "Some event", start, end, 0));
 
     var payload = objectMapper.createObjectNode()
         .put("title", "someEvent")
@@ -75,6 +103,26 @@ class EventsControllerTest {
         );
   }
 
+  @Test
+  void create_event_rejected_on_overlap() throws Exception {
+    var conflict = UUID.fromString("8ebea9a7-e0ef-4a62-a729-aff26134f9d8");
+    when(service.createEvent(any(), eq(true))).thenThrow(new EventOverlapException(List.of(conflict)));
+
+    var payload = objectMapper.createObjectNode()
+        .put("title", "Some event")
+        .put("start", "2001-01-01T00:00:00")
+        .put("end", "2001-01-01T12:00:00")
+        .toString();
+
+    mockMvc.perform(post("/events?rejectOnOverlap=true")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payload))
+        .andExpect(status().isConflict())
+        .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+        .andExpect(jsonPath("$.status").value(409))
+        .andExpect(jsonPath("$.conflicts[0]").value(conflict.toString()));
+  }
+
   @Test
   void create_event_with_blank_title() throws Exception {
     var payload = objectMapper.createObjectNode()
@@ -140,8 +188,8 @@ class EventsControllerTest {
     var end2 = end1.plusHours(1);
 
     var content = List.of(
-        new EventResponse(uuid1, "Some event", start1, end1),
-        new EventResponse(uuid2, "Some other event", start2, end2)
+        new EventResponse(uuid1, "Some event", start1, end1, 0),
+        new EventResponse(uuid2, "Some other event", start2, end2, 0)
     );
 
     var pageable = PageRequest.ofSize(20);
@@ -179,7 +227,7 @@ class EventsControllerTest {
     var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
 
     when(service.getEvent(uuid)).thenReturn(
-        Optional.of(new EventResponse(uuid, "Some event", start, start.plusHours(12))));
+        Optional.of(new EventResponse(uuid, "Some event", start, start.plusHours(12), 0)));
 
     mockMvc.perform(get("/events/{id}", uuid))
         .andExpect(status().isOk())
@@ -190,6 +238,344 @@ class EventsControllerTest {
         ).andDo(print());
   }
 
+  @Test
+  void read_event_as_hal_forms() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+    when(service.getEvent(uuid)).thenReturn(
+        Optional.of(new EventResponse(uuid, "Some event", start, start.plusHours(12), 0)));
+
+    mockMvc.perform(get("/events/{id}", uuid).accept(MediaTypes.HAL_FORMS_JSON))
+        .andExpect(status().isOk())
+        .andExpect(content().string("""
+            {"id":"38a14a82-d5a2-4210-9d61-cc3577bfa5df","title":"Some event",\
+            "start":"2001-01-01T00:00:00","end":"2001-01-01T12:00:00","version":0,\
+            "_links":{"self":{"href":"http://localhost/events/38a14a82-d5a2-4210-9d61-cc3577bfa5df"}},\
+            "_templates":{"default":{"method":"PATCH","properties":[\
+            {"name":"end","prompt":"End","type":"datetime-local"},\
+            {"name":"start","prompt":"Start","type":"datetime-local"},\
+            {"name":"title","prompt":"Title"}]},\
+            "deleteEvent":{"method":"DELETE","properties":[]}}}"""));
+  }
+
+  @Test
+  void read_events_as_hal_forms() throws Exception {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var content = List.of(
+        new EventResponse(UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df"), "Some event", start,
+            start.plusHours(12), 0),
+        new EventResponse(UUID.fromString("8ebea9a7-e0ef-4a62-a729-aff26134f9d8"), "Some other event",
+            start.plusHours(1), start.plusHours(13), 0));
+    var pageable = PageRequest.ofSize(20);
+
+    when(service.getEvents(pageable)).thenReturn(new PageImpl<>(content, pageable, content.size()));
+
+    mockMvc.perform(get("/events").accept(MediaTypes.HAL_FORMS_JSON))
+        .andExpect(status().isOk())
+        .andExpect(content().string("""
+            {"_embedded":{"events":[\
+            {"id":"38a14a82-d5a2-4210-9d61-cc3577bfa5df","title":"Some event",\
+            "start":"2001-01-01T00:00:00","end":"2001-01-01T12:00:00","version":0,\
+            "_links":{"self":{"href":"http://localhost/events/38a14a82-d5a2-4210-9d61-cc3577bfa5df"}}},\
+            {"id":"8ebea9a7-e0ef-4a62-a729-aff26134f9d8","title":"Some other event",\
+            "start":"2001-01-01T01:00:00","end":"2001-01-01T13:00:00","version":0,\
+            "_links":{"self":{"href":"http://localhost/events/8ebea9a7-e0ef-4a62-a729-aff26134f9d8"}}}]},\
+            "_links":{"self":{"href":"http://localhost/events?page=0&size=20"}},\
+            "page":{"size":20,"totalElements":2,"totalPages":1,"number":0}}"""));
+  }
+
+  @Test
+  void read_event_with_fields_and_without_hypermedia() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+    when(service.getEvent(uuid)).thenReturn(
+        Optional.of(new EventResponse(uuid, "Some event", start, start.plusHours(12), 0)));
+
+    mockMvc.perform(get("/events/{id}?fields=id,start&hypermedia=false", uuid).accept(MediaTypes.HAL_FORMS_JSON))
+        .andExpect(status().isOk())
+        .andExpect(content().string("""
+            {"id":"38a14a82-d5a2-4210-9d61-cc3577bfa5df","start":"2001-01-01T00:00:00"}"""));
+  }
+
+  @Test
+  void read_event_with_unknown_field() throws Exception {
+    mockMvc.perform(get("/events/{id}?fields=id,owner", UUID.randomUUID()))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void read_events_with_fields() throws Exception {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var content = List.of(new EventResponse(UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df"), "Some event",
+        start, start.plusHours(12), 0));
+    var pageable = PageRequest.ofSize(20);
+
+    when(service.getEvents(pageable)).thenReturn(new PageImpl<>(content, pageable, content.size()));
+
+    mockMvc.perform(get("/events?fields=id,title"))
+        .andExpect(status().isOk())
+        .andExpectAll(
+            jsonPath("$._embedded.events[0].id").value("38a14a82-d5a2-4210-9d61-cc3577bfa5df"),
+            jsonPath("$._embedded.events[0].title").value("Some event"),
+            jsonPath("$._embedded.events[0].start").doesNotExist(),
+            jsonPath("$._embedded.events[0].version").doesNotExist(),
+            jsonPath("$._embedded.events[0]._links.self.href")
+                .value("http://localhost/events/38a14a82-d5a2-4210-9d61-cc3577bfa5df"),
+            jsonPath("$.page.totalElements").value(1));
+  }
+
+  @Test
+  void read_events_without_hypermedia() throws Exception {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var content = List.of(new EventResponse(UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df"), "Some event",
+        start, start.plusHours(12), 0));
+    var pageable = PageRequest.ofSize(20);
+
+    when(service.getEvents(pageable)).thenReturn(new PageImpl<>(content, pageable, content.size()));
+
+    mockMvc.perform(get("/events?hypermedia=false&fields=id,start").accept(MediaTypes.HAL_FORMS_JSON))
+        .andExpect(status().isOk())
+        .andExpect(content().string("""
+            {"_embedded":{"events":[{"id":"38a14a82-d5a2-4210-9d61-cc3577bfa5df","start":"2001-01-01T00:00:00"}]},\
+            "page":{"size":20,"totalElements":1,"totalPages":1,"number":0}}"""));
+  }
+
+  @Test
+  void read_events_without_hypermedia_nor_count() throws Exception {
+    var pageable = PageRequest.ofSize(20);
+
+    when(service.getEventsSlice(pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+    mockMvc.perform(get("/events?hypermedia=false&count=none"))
+        .andExpect(status().isOk())
+        .andExpectAll(
+            jsonPath("$._embedded.events").isEmpty(),
+            jsonPath("$._links").doesNotExist());
+  }
+
+  @Test
+  void read_event_with_etag() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+    when(service.getEvent(uuid)).thenReturn(
+        Optional.of(new EventResponse(uuid, "Some event", start, start.plusHours(12), 3)));
+
+    mockMvc.perform(get("/events/{id}", uuid))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"3\""))
+        .andExpect(jsonPath("$.version").value(3));
+  }
+
+  @Test
+  void read_event_not_modified() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+    when(service.getEvent(uuid)).thenReturn(
+        Optional.of(new EventResponse(uuid, "Some event", start, start.plusHours(12), 3)));
+
+    mockMvc.perform(get("/events/{id}", uuid).header("If-None-Match", "\"3\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("ETag", "\"3\""))
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void read_event_with_etag_per_representation() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+    when(service.getEvent(uuid)).thenReturn(
+        Optional.of(new EventResponse(uuid, "Some event", start, start.plusHours(12), 3)));
+
+    var etags = new ArrayList<String>();
+    for (var request : List.of(
+        get("/events/{id}", uuid),
+        get("/events/{id}", uuid).accept(MediaType.APPLICATION_CBOR),
+        get("/events/{id}?hypermedia=false", uuid),
+        get("/events/{id}?fields=id,title", uuid),
+        get("/events/{id}?fields=title,id&hypermedia=false", uuid).accept(MediaType.APPLICATION_CBOR))) {
+      etags.add(mockMvc.perform(request)
+          .andExpect(status().isOk())
+          .andExpect(header().string("Vary", "Accept"))
+          .andReturn().getResponse().getHeader("ETag"));
+    }
+
+    assertThat(etags).doesNotHaveDuplicates().allMatch(etag -> etag.startsWith("\"3"));
+    mockMvc.perform(get("/events/{id}?hypermedia=false", uuid).header("If-None-Match", etags.get(0)))
+        .andExpect(status().isOk());
+    mockMvc.perform(get("/events/{id}?hypermedia=false", uuid).header("If-None-Match", etags.get(2)))
+        .andExpect(status().isNotModified());
+  }
+
+  @Test
+  void read_events_with_etag_per_representation() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var content = List.of(new EventResponse(uuid, "Some event", start, start.plusHours(12), 0));
+    var pageable = PageRequest.ofSize(20);
+
+    when(service.getEvents(pageable))
+        .thenReturn(new PageImpl<>(content, pageable, content.size()));
+
+    var etag = mockMvc.perform(get("/events"))
+        .andReturn().getResponse().getHeader("ETag");
+    var plainEtag = mockMvc.perform(get("/events?hypermedia=false"))
+        .andExpect(header().string("Vary", "Accept"))
+        .andReturn().getResponse().getHeader("ETag");
+
+    assertThat(plainEtag).isNotEqualTo(etag);
+    mockMvc.perform(get("/events?hypermedia=false").header("If-None-Match", etag))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void read_events_without_count() throws Exception {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var content = List.of(new EventResponse(UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df"), "Some event",
+        start, start.plusHours(12), 0));
+    var pageable = PageRequest.of(1, 1);
+
+    when(service.getEventsSlice(pageable)).thenReturn(new SliceImpl<>(content, pageable, true));
+
+    mockMvc.perform(get("/events?count=none&page=1&size=1"))
+        .andExpect(status().isOk())
+        .andExpectAll(
+            jsonPath("$._embedded.events[0].id").value("38a14a82-d5a2-4210-9d61-cc3577bfa5df"),
+            jsonPath("$._embedded.events[0]._links.self.href")
+                .value("http://localhost/events/38a14a82-d5a2-4210-9d61-cc3577bfa5df"),
+            jsonPath("$._links.self.href").value("http://localhost/events?count=none&page=1&size=1"),
+            jsonPath("$._links.prev.href").value("http://localhost/events?count=none&page=0&size=1"),
+            jsonPath("$._links.next.href").value("http://localhost/events?count=none&page=2&size=1"),
+            jsonPath("$._links.last").doesNotExist(),
+            jsonPath("$.page").doesNotExist());
+  }
+
+  @Test
+  void read_events_without_count_empty() throws Exception {
+    var pageable = PageRequest.ofSize(20);
+
+    when(service.getEventsSlice(pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+    mockMvc.perform(get("/events?count=none"))
+        .andExpect(status().isOk())
+        .andExpectAll(
+            jsonPath("$._embedded.events").isEmpty(),
+            jsonPath("$._links.self.href").value("http://localhost/events?count=none&page=0&size=20"),
+            jsonPath("$._links.prev").doesNotExist(),
+            jsonPath("$._links.next").doesNotExist());
+  }
+
+  @Test
+  void read_events_with_estimated_count() throws Exception {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var content = List.of(new EventResponse(UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df"), "Some event",
+        start, start.plusHours(12), 0));
+    var pageable = PageRequest.of(0, 1);
+
+    when(service.getEventsEstimated(pageable)).thenReturn(new PageImpl<>(content, pageable, 3));
+
+    mockMvc.perform(get("/events?count=estimated&size=1"))
+        .andExpect(status().isOk())
+        .andExpectAll(
+            jsonPath("$._embedded.events[0].id").value("38a14a82-d5a2-4210-9d61-cc3577bfa5df"),
+            jsonPath("$._links.next.href").value("http://localhost/events?count=estimated&page=1&size=1"),
+            jsonPath("$._links.last.href").value("http://localhost/events?count=estimated&page=2&size=1"),
+            jsonPath("$.page.totalElements").value(3));
+  }
+
+  @Test
+  void read_events_with_unknown_count() throws Exception {
+    mockMvc.perform(get("/events?count=sometimes"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void read_events_not_modified() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var content = List.of(new EventResponse(uuid, "Some event", start, start.plusHours(12), 0));
+    var pageable = PageRequest.ofSize(20);
+
+    when(service.getEvents(pageable))
+        .thenReturn(new PageImpl<>(content, pageable, content.size()));
+
+    var etag = mockMvc.perform(get("/events"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader("ETag");
+
+    mockMvc.perform(get("/events").header("If-None-Match", etag))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void update_event_with_matching_version() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var eventUpdateRequest = new EventUpdateRequest(Optional.of("Some other event"), Optional.empty(), Optional.empty());
+
+    when(service.updateEvent(uuid, eventUpdateRequest, 3, false))
+        .thenReturn(Optional.of(new EventResponse(uuid, "Some other event", start, start.plusHours(12), 4)));
+
+    mockMvc.perform(patch("/events/{id}", uuid)
+            .header("If-Match", "\"3\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.createObjectNode().put("title", "Some other event").toString()))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"4\""));
+  }
+
+  @Test
+  void update_event_with_etag_of_another_representation() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var eventUpdateRequest = new EventUpdateRequest(Optional.of("Some other event"), Optional.empty(), Optional.empty());
+
+    when(service.updateEvent(uuid, eventUpdateRequest, 3, false))
+        .thenReturn(Optional.of(new EventResponse(uuid, "Some other event", start, start.plusHours(12), 4)));
+
+    mockMvc.perform(patch("/events/{id}", uuid)
+            .header("If-Match", "\"3-0a1b2c3d\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.createObjectNode().put("title", "Some other event").toString()))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"4\""));
+  }
+
+  @Test
+  void update_event_with_stale_version() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var eventUpdateRequest = new EventUpdateRequest(Optional.of("Some other event"), Optional.empty(), Optional.empty());
+
+    when(service.updateEvent(uuid, eventUpdateRequest, 2, false))
+        .thenThrow(new OptimisticLockingFailureException("Stale"));
+
+    mockMvc.perform(patch("/events/{id}", uuid)
+            .header("If-Match", "\"2\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.createObjectNode().put("title", "Some other event").toString()))
+        .andExpect(status().isPreconditionFailed());
+  }
+
+  @Test
+  void update_event_with_foreign_etag() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var eventUpdateRequest = new EventUpdateRequest(Optional.of("Some other event"), Optional.empty(), Optional.empty());
+
+    when(service.updateEvent(uuid, eventUpdateRequest, -1, false))
+        .thenThrow(new OptimisticLockingFailureException("Stale"));
+
+    mockMvc.perform(patch("/events/{id}", uuid)
+            .header("If-Match", "W/\"foo\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.createObjectNode().put("title", "Some other event").toString()))
+        .andExpect(status().isPreconditionFailed());
+  }
+
   @Test
   void update_event() throws Exception {
     var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
@@ -201,8 +587,8 @@ class EventsControllerTest {
     var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
 
     when(service.updateEvent(uuid,
-        new EventUpdateRequest(Optional.of("Some other event"), Optional.empty(), Optional.empty())))
-        .thenReturn(Optional.of(new EventResponse(uuid, "Some other event", start, start.plusHours(12))));
+        new EventUpdateRequest(Optional.of("Some other event"), Optional.empty(), Optional.empty()), false))
+        .thenReturn(Optional.of(new EventResponse(uuid, "Some other event", start, start.plusHours(12), 1)));
 
     mockMvc.perform(patch("/events/{id}", uuid)
             .contentType(MediaType.APPLICATION_JSON)
@@ -211,6 +597,25 @@ class EventsControllerTest {
         .andExpect(jsonPath("$.title").value("Some other event"));
   }
 
+  @Test
+  void update_event_rejected_on_overlap() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var eventUpdateRequest = new EventUpdateRequest(Optional.of("Some event"),
+        Optional.of(LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.NOON)), Optional.empty());
+
+    when(service.updateEvent(uuid, eventUpdateRequest, 3, true))
+        .thenThrow(new EventOverlapException(List.of(UUID.randomUUID())));
+
+    mockMvc.perform(patch("/events/{id}?rejectOnOverlap=true", uuid)
+            .header("If-Match", "\"3\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.createObjectNode()
+                .put("title", "Some event")
+                .put("start", "2001-01-01T12:00:00")
+                .toString()))
+        .andExpect(status().isConflict());
+  }
+
   @Test
   void update_event_with_incorrect_id() throws Exception {
     var payload = objectMapper.createObjectNode()
@@ -223,6 +628,110 @@ class EventsControllerTest {
         .andExpect(status().isBadRequest());
   }
 
+  @Test
+  void create_event_as_cbor() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+    when(service.createEvent(new EventCreationRequest("Some event", start, start.plusHours(12)), false)).thenReturn(
+        new EventResponse(uuid, "Some event", start, start.plusHours(12), 0));
+
+    var payload = cborMapper.writeValueAsBytes(cborMapper.createObjectNode()
+        .put("title", "Some event")
+        .put("start", "2001-01-01T00:00:00")
+        .put("end", "2001-01-01T12:00:00"));
+
+    var response = mockMvc.perform(post("/events")
+            .contentType(MediaType.APPLICATION_CBOR)
+            .accept(MediaType.APPLICATION_CBOR)
+            .content(payload))
+        .andExpect(status().isCreated())
+        .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    assertThat(cborMapper.readValue(response, EventResponse.class))
+        .isEqualTo(new EventResponse(uuid, "Some event", start, start.plusHours(12), 0));
+    assertThat(cborMapper.readTree(response).at("/_links/self/href").asText())
+        .isEqualTo("http://localhost/events/38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+  }
+
+  @Test
+  void update_event_as_cbor() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+    when(service.updateEvent(uuid,
+        new EventUpdateRequest(Optional.of("Some other event"), Optional.empty(), Optional.empty()), false))
+        .thenReturn(Optional.of(new EventResponse(uuid, "Some other event", start, start.plusHours(12), 1)));
+
+    var response = mockMvc.perform(patch("/events/{id}", uuid)
+            .contentType(MediaType.APPLICATION_CBOR)
+            .accept(MediaType.APPLICATION_CBOR)
+            .content(cborMapper.writeValueAsBytes(cborMapper.createObjectNode().put("title", "Some other event"))))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsByteArray();
+
+    assertThat(cborMapper.readTree(response).path("title").asText()).isEqualTo("Some other event");
+  }
+
+  @Test
+  void read_events_as_cbor() throws Exception {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var content = List.of(
+        new EventResponse(UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df"), "Some event", start,
+            start.plusHours(12), 0),
+        new EventResponse(UUID.fromString("8ebea9a7-e0ef-4a62-a729-aff26134f9d8"), "Some other event",
+            start.plusHours(1), start.plusHours(13), 0));
+    var pageable = PageRequest.ofSize(20);
+
+    when(service.getEvents(pageable)).thenReturn(new PageImpl<>(content, pageable, content.size()));
+
+    var json = mockMvc.perform(get("/events").accept(MediaTypes.HAL_FORMS_JSON))
+        .andReturn().getResponse().getContentAsString();
+    var cbor = mockMvc.perform(get("/events").accept(MediaType.APPLICATION_CBOR))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    // Same HAL document, except for the ids being written as binary UUIDs
+    var cborTree = cborMapper.readTree(cbor);
+    var jsonTree = objectMapper.readTree(json);
+    assertThat(cborMapper.treeToValue(cborTree.at("/_embedded/events"), EventResponse[].class))
+        .containsExactlyElementsOf(content);
+    assertThat(cborTree.path("_links")).isEqualTo(jsonTree.path("_links"));
+    assertThat(cborTree.path("page")).isEqualTo(jsonTree.path("page"));
+    assertThat(cbor.length).isLessThan(json.length());
+  }
+
+  @Test
+  void read_event_with_unknown_id_is_counted() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var notFound = meterRegistry.counter(EventMetrics.METRIC_NOT_FOUND, "operation", "get").count();
+
+    when(service.getEvent(uuid)).thenReturn(Optional.empty());
+
+    mockMvc.perform(get("/events/{id}", uuid))
+        .andExpect(status().isNotFound());
+
+    assertThat(meterRegistry.counter(EventMetrics.METRIC_NOT_FOUND, "operation", "get").count())
+        .isEqualTo(notFound + 1);
+  }
+
+  @Test
+  void read_events_records_page_size_and_assembly() throws Exception {
+    var pageable = PageRequest.ofSize(50);
+
+    when(service.getEvents(pageable)).thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+    mockMvc.perform(get("/events?size=50"))
+        .andExpect(status().isOk());
+
+    assertThat(meterRegistry.get(EventMetrics.METRIC_PAGE_SIZE).tag("count", "exact").summary().max())
+        .isEqualTo(50);
+    assertThat(meterRegistry.get(EventMetrics.METRIC_ASSEMBLY).tag("operation", "list").timer().count())
+        .isPositive();
+  }
+
   @Test
   void update_event_with_unknown_id() throws Exception {
     var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
@@ -259,6 +768,25 @@ class EventsControllerTest {
         .andExpect(status().isNoContent());
   }
 
+  @Test
+  void delete_event_with_matching_version() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+
+    mockMvc.perform(delete("/events/{id}", uuid).header("If-Match", "\"3\""))
+        .andExpect(status().isNoContent());
+
+    verify(service).deleteEvent(uuid, 3);
+  }
+
+  @Test
+  void delete_missing_event_with_version() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    doThrow(new OptimisticLockingFailureException("Event does not exist")).when(service).deleteEvent(uuid, 3);
+
+    mockMvc.perform(delete("/events/{id}", uuid).header("If-Match", "\"3\""))
+        .andExpect(status().isPreconditionFailed());
+  }
+
   @Test
   void delete_event_with_incorrect_id() throws Exception {
     mockMvc.perform(delete("/events/{id}", "foobar"))
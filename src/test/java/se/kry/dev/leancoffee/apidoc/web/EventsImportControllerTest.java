@@ -0,0 +1,89 @@
+package se.kry.dev.leancoffee.apidoc.web;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static se.kry.dev.leancoffee.apidoc.domain.EventConstants.SIZE_IMPORT_CHUNK;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import se.kry.dev.leancoffee.apidoc.domain.EventCreationRequest;
+import se.kry.dev.leancoffee.apidoc.infra.web.security.InfraWebSecurityConfiguration;
+import se.kry.dev.leancoffee.apidoc.services.EventService;
+
+@WebMvcTest(EventsImportController.class)
+@Import({InfraWebSecurityConfiguration.class, EventRequestReader.class})
+@WithMockUser
+class EventsImportControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockBean
+  private EventService service;
+
+  @Test
+  void import_events() throws Exception {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+    when(service.importEvents(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+    mockMvc.perform(post("/events/import")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content("""
+                {"title":"Some event","start":"2001-01-01T00:00:00","end":"2001-01-01T12:00:00"}
+                {"title":"","start":"2001-01-01T00:00:00","end":"2001-01-01T12:00:00"}
+
+                {"title":"Some other event",
+                {"title":"Some other event","start":"2001-01-02T00:00:00","end":"2001-01-02T12:00:00"}
+                """))
+        .andExpect(status().isOk())
+        .andExpectAll(
+            jsonPath("$.created").value(2),
+            jsonPath("$.rejected").value(2),
+            jsonPath("$.errors[0].index").value(2),
+            jsonPath("$.errors[0].status").value("INVALID"),
+            jsonPath("$.errors[0].errors[0]").value("title: must not be blank"),
+            jsonPath("$.errors[1].index").value(4),
+            jsonPath("$.errors[1].status").value("INVALID"));
+
+    verify(service).importEvents(List.of(
+        new EventCreationRequest("Some event", start, start.plusHours(12)),
+        new EventCreationRequest("Some other event", start.plusDays(1), start.plusDays(1).plusHours(12))));
+  }
+
+  @Test
+  void import_events_in_chunks() throws Exception {
+    when(service.importEvents(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+    var content = IntStream.range(0, SIZE_IMPORT_CHUNK * 2 + 1)
+        .mapToObj(i -> "{\"title\":\"Event " + i + "\",\"start\":\"2001-01-01T00:00:00\",\"end\":\"2001-01-01T12:00:00\"}")
+        .collect(Collectors.joining("\n"));
+
+    mockMvc.perform(post("/events/import")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content(content))
+        .andExpect(status().isOk())
+        .andExpectAll(
+            jsonPath("$.created").value(SIZE_IMPORT_CHUNK * 2 + 1),
+            jsonPath("$.rejected").value(0));
+
+    verify(service, times(3)).importEvents(anyList());
+  }
+}
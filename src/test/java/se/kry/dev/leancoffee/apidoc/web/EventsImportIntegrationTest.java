@@ -0,0 +1,58 @@
+package se.kry.dev.leancoffee.apidoc.web;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+// Imported events are seen by every reader of event changes, as created ones are
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class EventsImportIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  void reject_events_overlapping_imported_ones() throws Exception {
+    mockMvc.perform(post("/events/import")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content("""
+                {"title": "Imported event", "start": "2104-01-01T09:00:00", "end": "2104-01-01T10:00:00"}
+                """))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.created").value(1));
+
+    mockMvc.perform(post("/events?rejectOnOverlap=true")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"title": "Overlapping event", "start": "2104-01-01T09:30:00", "end": "2104-01-01T11:00:00"}
+                """))
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.conflicts.length()").value(1));
+  }
+
+  @Test
+  void search_imported_events() throws Exception {
+    mockMvc.perform(post("/events/import")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content("""
+                {"title": "Imported retrospective", "start": "2104-02-01T09:00:00", "end": "2104-02-01T10:00:00"}
+                """))
+        .andExpect(status().isOk());
+
+    mockMvc.perform(get("/events/search").param("q", "imported retro"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$._embedded.events[*].title").value(Matchers.contains("Imported retrospective")));
+  }
+}
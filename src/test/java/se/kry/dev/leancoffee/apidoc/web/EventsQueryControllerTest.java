@@ -0,0 +1,214 @@
+package se.kry.dev.leancoffee.apidoc.web;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import se.kry.dev.leancoffee.apidoc.domain.EventCursor;
+import se.kry.dev.leancoffee.apidoc.domain.EventResponse;
+import se.kry.dev.leancoffee.apidoc.domain.EventWindow;
+import se.kry.dev.leancoffee.apidoc.infra.web.hateoas.InfraWebHateoasConfiguration;
+import se.kry.dev.leancoffee.apidoc.infra.web.security.InfraWebSecurityConfiguration;
+import se.kry.dev.leancoffee.apidoc.services.EventService;
+
+@WebMvcTest(EventsQueryController.class)
+@Import({InfraWebSecurityConfiguration.class, InfraWebHateoasConfiguration.class, EventLinks.class})
+@WithMockUser
+class EventsQueryControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockBean
+  private EventService service;
+
+  @Test
+  void scroll_events() throws Exception {
+    var uuid1 = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var start1 = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var end1 = start1.plusHours(12);
+
+    var uuid2 = UUID.fromString("8ebea9a7-e0ef-4a62-a729-aff26134f9d8");
+    var start2 = start1.plusHours(1);
+    var end2 = end1.plusHours(1);
+
+    var content = List.of(
+        new EventResponse(uuid1, "Some event", start1, end1, 0),
+        new EventResponse(uuid2, "Some other event", start2, end2, 0)
+    );
+
+    var next = new EventCursor(start2, uuid2);
+
+    when(service.getEventsAfter(Optional.empty(), 2))
+        .thenReturn(new EventWindow(content, Optional.empty(), Optional.of(next)));
+
+    mockMvc.perform(get("/events/scroll").param("size", "2"))
+        .andExpect(status().isOk())
+        .andExpectAll(
+            jsonPath("$._embedded.events").isArray(),
+            jsonPath("$._embedded.events[0].id").value("38a14a82-d5a2-4210-9d61-cc3577bfa5df"),
+            jsonPath("$._embedded.events[1].id").value("8ebea9a7-e0ef-4a62-a729-aff26134f9d8"),
+            jsonPath("$._embedded.events[1]._links.self.href")
+                .value("http://localhost/events/8ebea9a7-e0ef-4a62-a729-aff26134f9d8"),
+            jsonPath("$._links.self.href").value("http://localhost/events/scroll?size=2"),
+            jsonPath("$._links.next.href").value("http://localhost/events/scroll?after=" + next + "&size=2"),
+            jsonPath("$._links.prev").doesNotExist(),
+            jsonPath("$.page").doesNotExist()
+        );
+  }
+
+  @Test
+  void scroll_events_after_cursor() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var event = new EventResponse(uuid, "Some event", start, start.plusHours(12), 0);
+    var cursor = new EventCursor(start.minusDays(1), UUID.fromString("8ebea9a7-e0ef-4a62-a729-aff26134f9d8"));
+
+    when(service.getEventsAfter(Optional.of(cursor), 20))
+        .thenReturn(new EventWindow(List.of(event), Optional.of(EventCursor.of(event)), Optional.empty()));
+
+    mockMvc.perform(get("/events/scroll").param("after", cursor.toString()))
+        .andExpect(status().isOk())
+        .andExpectAll(
+            jsonPath("$._embedded.events[0].id").value("38a14a82-d5a2-4210-9d61-cc3577bfa5df"),
+            jsonPath("$._links.prev.href")
+                .value("http://localhost/events/scroll?before=" + EventCursor.of(event) + "&size=20"),
+            jsonPath("$._links.next").doesNotExist()
+        );
+  }
+
+  @Test
+  void scroll_events_with_incorrect_cursor() throws Exception {
+    mockMvc.perform(get("/events/scroll").param("after", "foobar"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void read_events_between() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+    var event = new EventResponse(uuid, "Some event", start, start.plusHours(12), 0);
+    var next = EventCursor.of(event);
+
+    when(service.getEventsBetween(start, start.plusDays(1), Optional.empty(), 1))
+        .thenReturn(new EventWindow(List.of(event), Optional.empty(), Optional.of(next)));
+
+    mockMvc.perform(get("/events")
+            .param("from", "2001-01-01T00:00:00")
+            .param("to", "2001-01-02T00:00:00")
+            .param("size", "1"))
+        .andExpect(status().isOk())
+        .andExpectAll(
+            jsonPath("$._embedded.events[0].id").value("38a14a82-d5a2-4210-9d61-cc3577bfa5df"),
+            jsonPath("$._links.self.href")
+                .value("http://localhost/events?from=2001-01-01T00:00&to=2001-01-02T00:00&size=1"),
+            jsonPath("$._links.next.href")
+                .value("http://localhost/events?from=2001-01-01T00:00&to=2001-01-02T00:00&after=" + next + "&size=1"),
+            jsonPath("$.page").doesNotExist()
+        );
+  }
+
+  @Test
+  void read_events_between_with_incorrect_range() throws Exception {
+    mockMvc.perform(get("/events")
+            .param("from", "2001-01-02T00:00:00")
+            .param("to", "2001-01-01T00:00:00"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void export_events() throws Exception {
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+    doAnswer(invocation -> {
+      var consumer = (Consumer<EventResponse>) invocation.getArgument(0);
+      consumer.accept(new EventResponse(UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df"), "Some event", start,
+          start.plusHours(12), 0));
+      consumer.accept(new EventResponse(UUID.fromString("4b8a6ccb-1a5b-4ef6-9cbb-2fd1c8b0f5b0"), "Some other event",
+          start.plusDays(1), start.plusDays(1).plusHours(12), 3));
+      return null;
+    }).when(service).exportEvents(any());
+
+    var result = mockMvc.perform(get("/events/export"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+        .andExpect(content().string("""
+            {"id":"38a14a82-d5a2-4210-9d61-cc3577bfa5df","title":"Some event",\
+            "start":"2001-01-01T00:00:00","end":"2001-01-01T12:00:00","version":0}
+            {"id":"4b8a6ccb-1a5b-4ef6-9cbb-2fd1c8b0f5b0","title":"Some other event",\
+            "start":"2001-01-02T00:00:00","end":"2001-01-02T12:00:00","version":3}
+            """));
+  }
+
+  @Test
+  void search_events() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+    when(service.searchEvents("some ev", 5))
+        .thenReturn(List.of(new EventResponse(uuid, "Some event", start, start.plusHours(12), 0)));
+
+    mockMvc.perform(get("/events/search").param("q", "some ev").param("size", "5"))
+        .andExpect(status().isOk())
+        .andExpectAll(
+            jsonPath("$._embedded.events[0].id").value("38a14a82-d5a2-4210-9d61-cc3577bfa5df"),
+            jsonPath("$._embedded.events[0]._links.self.href")
+                .value("http://localhost/events/38a14a82-d5a2-4210-9d61-cc3577bfa5df"),
+            jsonPath("$._links.self.href").value("http://localhost/events/search?q=some%20ev&size=5"));
+  }
+
+  @Test
+  void search_events_without_query() throws Exception {
+    mockMvc.perform(get("/events/search").param("q", " "))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void read_conflicts() throws Exception {
+    var uuid = UUID.fromString("38a14a82-d5a2-4210-9d61-cc3577bfa5df");
+    var excluded = UUID.fromString("8ebea9a7-e0ef-4a62-a729-aff26134f9d8");
+    var start = LocalDate.of(2001, Month.JANUARY, 1).atTime(LocalTime.MIDNIGHT);
+
+    when(service.getConflicts(start.plusHours(6), start.plusHours(18), Optional.of(excluded), 20))
+        .thenReturn(List.of(new EventResponse(uuid, "Some event", start, start.plusHours(12), 0)));
+
+    mockMvc.perform(get("/events/conflicts?start=2001-01-01T06:00:00&end=2001-01-01T18:00:00&exclude=" + excluded))
+        .andExpect(status().isOk())
+        .andExpectAll(
+            jsonPath("$._embedded.events[0].id").value("38a14a82-d5a2-4210-9d61-cc3577bfa5df"),
+            jsonPath("$._links.self.href").value("http://localhost/events/conflicts?start=2001-01-01T06:00"
+                + "&end=2001-01-01T18:00&exclude=8ebea9a7-e0ef-4a62-a729-aff26134f9d8&size=20"));
+  }
+
+  @Test
+  void read_conflicts_with_end_before_start() throws Exception {
+    mockMvc.perform(get("/events/conflicts?start=2001-01-01T18:00:00&end=2001-01-01T06:00:00"))
+        .andExpect(status().isBadRequest());
+  }
+}